@@ -0,0 +1,123 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.androidplot;
+
+import android.util.Log;
+import com.androidplot.util.PlotExecutors;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs a plot's preparation stage on a worker thread so that frame N+1 can be prepared while
+ * frame N is being drawn.  Requests are coalesced: at most one preparation runs at a time per
+ * pipeline, a request made while preparing causes exactly one more preparation, and only the
+ * most recently prepared frame is retained.
+ * @since 0.9.8
+ */
+class FramePipeline {
+
+    private static final String TAG = FramePipeline.class.getName();
+
+    private static ExecutorService sharedExecutor;
+
+    private final Executor executor;
+    private final Callable<PreparedFrame> preparer;
+    private final Runnable onPrepared;
+
+    private final AtomicBoolean pending = new AtomicBoolean();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicReference<PreparedFrame> latest = new AtomicReference<>();
+
+    private final Runnable task = new Runnable() {
+        @Override
+        public void run() {
+            try {
+                while (pending.getAndSet(false)) {
+                    PreparedFrame frame = null;
+                    try {
+                        frame = preparer.call();
+                    } catch (Exception e) {
+                        Log.e(TAG, "Exception while preparing frame.", e);
+                    }
+                    // the request has already been consumed, so notify even if nothing was
+                    // prepared; a null frame is prepared inline when drawn:
+                    latest.set(frame);
+                    onPrepared.run();
+                }
+            } finally {
+                running.set(false);
+            }
+            // a request may have arrived after the loop exited but before running was cleared:
+            if (pending.get()) {
+                schedule();
+            }
+        }
+    };
+
+    private static synchronized ExecutorService getSharedExecutor() {
+        if(sharedExecutor == null) {
+            sharedExecutor = PlotExecutors.newFixedThreadPool(
+                    PlotExecutors.getParallelism(), "Androidplot Frame Preparer");
+        }
+        return sharedExecutor;
+    }
+
+    /**
+     *
+     * @param preparer Invoked on a worker thread to prepare a frame.  May return null if
+     *                 there is nothing to prepare.
+     * @param onPrepared Invoked on the worker thread after each preparation, including those
+     *                   that returned null or failed.
+     */
+    FramePipeline(Callable<PreparedFrame> preparer, Runnable onPrepared) {
+        this(getSharedExecutor(), preparer, onPrepared);
+    }
+
+    FramePipeline(Executor executor, Callable<PreparedFrame> preparer, Runnable onPrepared) {
+        this.executor = executor;
+        this.preparer = preparer;
+        this.onPrepared = onPrepared;
+    }
+
+    /**
+     * Requests that a frame be prepared.  May be called from any thread.
+     */
+    void requestPrepare() {
+        pending.set(true);
+        schedule();
+    }
+
+    /**
+     * Retrieves and clears the most recently prepared frame.
+     * @return The most recently prepared frame or null if no frame has been prepared
+     * since the last call.
+     */
+    PreparedFrame takeLatest() {
+        return latest.getAndSet(null);
+    }
+
+    private void schedule() {
+        if (running.compareAndSet(false, true)) {
+            executor.execute(task);
+        }
+    }
+}
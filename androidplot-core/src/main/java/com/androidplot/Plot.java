@@ -33,12 +33,15 @@ import com.androidplot.ui.SeriesRenderer;
 import com.androidplot.util.AttrUtils;
 import com.androidplot.util.Configurator;
 import com.androidplot.util.DisplayDimensions;
+import com.androidplot.util.FrameClock;
+import com.androidplot.util.FrameScheduler;
 import com.androidplot.util.PixelUtils;
+import com.androidplot.util.VsyncFrameClock;
 import com.androidplot.ui.XLayoutStyle;
 import com.androidplot.ui.YLayoutStyle;
 
-import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.Callable;
 
 /**
  * Base class for all Plot implementations.
@@ -134,21 +137,58 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
     private TextLabelWidget titleWidget;
     private DisplayDimensions displayDims = new DisplayDimensions();
     private RenderMode renderMode = RenderMode.USE_MAIN_THREAD;
-    private final BufferedCanvas pingPong = new BufferedCanvas();
+    private final SwapChain swapChain = new SwapChain(Bitmap.Config.ARGB_4444);
 
     // used to get rid of flickering when drawing offScreenBitmap to the visible Canvas.
     private final Object renderSynch = new Object();
 
     private HashMap<Class<? extends RendererType>, RendererType> renderers;
     private SeriesRegistry<SeriesType, FormatterType> seriesRegistry;
-    private final ArrayList<PlotListener> listeners;
+    // copy on write; never modified once published so it can be dispatched from without locking:
+    private volatile PlotListener[] listeners = new PlotListener[0];
+    private final Object listenersLock = new Object();
+
+    // the listeners notified before the current draw / preparation, so that exactly the same
+    // listeners are notified afterwards even if listeners change in between:
+    private PlotListener[] drawListeners;
+    private PlotListener[] prepareListeners;
 
     private Thread renderThread;
     private boolean keepRunning = false;
-    private boolean isIdle = true;
+
+    // time taken by the most recent call to renderOnCanvas:
+    private volatile long lastRenderDurationNanos;
+
+    // guarded by renderSynch; true if a frame has been requested but the render thread has not yet begun it:
+    private boolean renderRequested = true;
+
+    // guarded by renderSynch; true if buffers owned by the render thread should be freed:
+    private boolean releaseRequested;
+
+    // guarded by renderSynch; true from the moment the render thread is started until it exits:
+    private boolean renderThreadRunning;
+
+    // set by redraw() from any thread, without waiting for a render in progress; tells the next
+    // frame that the recorded display list may no longer reflect the plot's data:
+    private volatile boolean displayListInvalid;
+
+    // guarded by this:
+    private boolean displayListEnabled;
+    private Picture displayList;
+    private DisplayDimensions displayListDims;
+    private int displayListModCount;
+
+    // non-null when the preparation stage runs on a worker; only used in background rendering mode:
+    private volatile FramePipeline framePipeline;
+
+    private final FrameScheduler frameScheduler = new FrameScheduler(new VsyncFrameClock(), new Runnable() {
+        @Override
+        public void run() {
+            onFrame();
+        }
+    });
 
     {
-        listeners = new ArrayList<>();
         seriesRegistry = new SeriesRegistry<>();
         renderers = new HashMap<>();
 
@@ -163,59 +203,6 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
     }
 
 
-    /**
-     *  Any rendering that utilizes a buffer from this class should synchronize rendering on the instance of this class
-     *  that is being used.
-     */
-    private class BufferedCanvas {
-        private volatile Bitmap bgBuffer;  // all drawing is done on this buffer.
-        private volatile Bitmap fgBuffer;
-        private Canvas canvas = new Canvas();
-
-        /**
-         * Call this method once drawing on a Canvas retrieved by {@link #getCanvas()} to mark
-         * the buffer as fully rendered.  Failure to call this method will result in nothing being drawn.
-         */
-        public synchronized void swap() {
-            Bitmap tmp = bgBuffer;
-            bgBuffer = fgBuffer;
-            fgBuffer = tmp;
-        }
-
-        public synchronized void resize(int h, int w) {
-            if (w <= 0 || h <= 0) {
-                bgBuffer = null;
-                fgBuffer = null;
-            } else {
-                bgBuffer = Bitmap.createBitmap(w, h, Bitmap.Config.ARGB_4444);
-                fgBuffer = Bitmap.createBitmap(w, h, Bitmap.Config.ARGB_4444);
-            }
-        }
-
-
-        /**
-         * Get a Canvas for drawing.  Actual drawing should be synchronized on the instance
-         * of BufferedCanvas being used.
-         * @return The Canvas instance to draw onto.  Returns null if drawing buffers have not
-         *         been initialized a la {@link #resize(int, int)}.
-         */
-        public synchronized Canvas getCanvas() {
-            if(bgBuffer != null) {
-                canvas.setBitmap(bgBuffer);
-                return canvas;
-            } else {
-                return null;
-            }
-        }
-
-        /**
-         * @return The most recent fully rendered Bitmsp
-         */
-        public Bitmap getBitmap() {
-            return fgBuffer;
-        }
-    }
-
     /**
      * Convenience constructor - wraps {@link #Plot(android.content.Context, String, com.androidplot.Plot.RenderMode)}.
      * RenderMode is set to {@link RenderMode#USE_BACKGROUND_THREAD}.
@@ -291,6 +278,22 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
         return false;
     }
 
+    /**
+     * Sets the {@link Bitmap.Config} of the offscreen buffers used by
+     * {@link RenderMode#USE_BACKGROUND_THREAD}.  Defaults to {@link Bitmap.Config#ARGB_4444}; use
+     * {@link Bitmap.Config#ARGB_8888} to avoid color banding at the cost of twice the memory.
+     * Takes effect from the next rendered frame.
+     * @param config
+     * @since 0.9.8
+     */
+    public void setBufferConfig(Bitmap.Config config) {
+        swapChain.setConfig(config);
+    }
+
+    public Bitmap.Config getBufferConfig() {
+        return swapChain.getConfig();
+    }
+
     /**
      * Sets the render mode used by the Plot.
      * WARNING: This method is not currently designed for general use outside of Configurator.
@@ -343,31 +346,53 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
 
         layoutManager.onPostInit();
         if (renderMode == RenderMode.USE_BACKGROUND_THREAD) {
+            final PlotBufferManager bufferManager = PlotBufferManager.getInstance();
+            swapChain.setBitmapPool(bufferManager.getBitmapPool());
+            bufferManager.register(this);
+            bufferManager.registerComponentCallbacks(getContext());
             renderThread = new Thread(new Runnable() {
                 @Override
                 public void run() {
 
                     keepRunning = true;
                     while (keepRunning) {
-                        isIdle = false;
-                        synchronized (pingPong) {
-                            Canvas c = pingPong.getCanvas();
-                            renderOnCanvas(c);
-                            pingPong.swap();
-                        }
+                        final boolean render;
                         synchronized (renderSynch) {
-                            postInvalidate();
-                            // prevent this thread from becoming an orphan
-                            // after the view is destroyed
-                            if (keepRunning) {
+                            // sleep until a frame or a release is requested; requests made while
+                            // rendering are picked up here rather than dropped:
+                            while (keepRunning && !renderRequested && !releaseRequested) {
                                 try {
                                     renderSynch.wait();
                                 } catch (InterruptedException e) {
                                     keepRunning = false;
                                 }
                             }
+                            render = renderRequested;
+                            renderRequested = false;
+                        }
+                        releasePendingBuffers();
+                        if (!keepRunning) {
+                            // prevent this thread from becoming an orphan
+                            // after the view is destroyed
+                            break;
+                        }
+                        if (!render) {
+                            continue;
+                        }
+                        final FramePipeline pipeline = framePipeline;
+                        final PreparedFrame frame = pipeline != null ? pipeline.takeLatest() : null;
+                        Canvas c = swapChain.beginFrame();
+                        if (c != null) {
+                            renderOnCanvas(c, frame);
+                            swapChain.endFrame();
+                            postInvalidate();
                         }
                     }
+                    synchronized (renderSynch) {
+                        renderThreadRunning = false;
+                    }
+                    // a release may have been handed off after the last check above:
+                    releasePendingBuffers();
                 }
             });
         }
@@ -431,66 +456,24 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
 
         if (attrs != null) {
 
-            Field styleableFieldInR = null;
+            final Styleables styleables = getStyleables();
             TypedArray typedAttrs = null;
-
-            final String appPkg = getContext().getPackageName();
-            Class styleableClass = null;
-            try {
-                /**
-                 * Need to retrieve R$styleable.class dynamically to avoid exceptions
-                 * in environments where this class does not exist, such as .jar users
-                 * that have not merged the library's attrs.xml with their own.
-                 */
-                styleableClass = Class.forName(appPkg + ".R$styleable");
-
-            } catch (ClassNotFoundException e) {
-                // when running as a preview in IntelliJ or AndroidStudio it seems that the package of R is
-                // something else; this fixes that issue:
-                if(isInEditMode()) {
-                    styleableClass = R.styleable.class;
-                }
-            }
-
-            if(styleableClass != null) {
-                String styleableName = getClass().getName().substring(BASE_PACKAGE.length());
-                styleableName = styleableName.replace('.', '_');
+            if (styleables.derived != null) {
                 try {
-                    /**
-                     * Use reflection to safely check for the existence of styleable defs for Plot
-                     * and it's derivatives.  This safety check is necessary to avoid runtime exceptions
-                     * in apps that don't include Androidplot as a .aar and won't have access to
-                     * the resources defined in the core library.
-                     */
-                    styleableFieldInR = styleableClass.getField(styleableName);
-                } catch (NoSuchFieldException e) {
-                    Log.d(TAG, "Styleable definition not found for: " + styleableName);
-                }
-                if (styleableFieldInR != null) {
-                    try {
-                        int[] resIds = (int[]) styleableFieldInR.get(null);
-                        typedAttrs = getContext().obtainStyledAttributes(attrs, resIds, defStyle, 0);
-                    } catch (IllegalAccessException e) {
-                        // nothing to do
-                    } finally {
-                        if (typedAttrs != null) {
-                            // apply derived class' attrs:
-                            processAttrs(typedAttrs);
-                            typedAttrs.recycle();
-                        }
+                    typedAttrs = getContext().obtainStyledAttributes(attrs, styleables.derived, defStyle, 0);
+                } finally {
+                    if (typedAttrs != null) {
+                        // apply derived class' attrs:
+                        processAttrs(typedAttrs);
+                        typedAttrs.recycle();
                     }
                 }
+            }
 
+            if (styleables.base != null) {
+                typedAttrs = null;
                 try {
-                    styleableFieldInR = styleableClass.getField(Plot.class.getSimpleName());
-                    if (styleableFieldInR != null) {
-                        int[] resIds = (int[]) styleableFieldInR.get(null);
-                        typedAttrs = getContext().obtainStyledAttributes(attrs, resIds, defStyle, 0);
-                    }
-                } catch (IllegalAccessException e) {
-                    // nothing to do
-                } catch (NoSuchFieldException e) {
-                    Log.d(TAG, "Styleable definition not found for: " + Plot.class.getSimpleName());
+                    typedAttrs = getContext().obtainStyledAttributes(attrs, styleables.base, defStyle, 0);
                 } finally {
                     if (typedAttrs != null) {
                         // apply base attrs:
@@ -507,7 +490,8 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
                 String attrName = attrs.getAttributeName(i);
 
                 // case insensitive check to see if this attr begins with our prefix:
-                if (attrName != null && attrName.toUpperCase().startsWith(XML_ATTR_PREFIX.toUpperCase())) {
+                if (attrName != null && attrName.regionMatches(
+                        true, 0, XML_ATTR_PREFIX, 0, XML_ATTR_PREFIX.length())) {
                     attrHash.put(attrName.substring(XML_ATTR_PREFIX.length() + 1), attrs.getAttributeValue(i));
                 }
             }
@@ -515,27 +499,147 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
         }
     }
 
+    /**
+     * The styleable resource id arrays for a concrete Plot class, resolved once per process.
+     * Either array is null if the app's R class does not define it.
+     */
+    private static class Styleables {
+        private final String appPkg;
+        private final int[] derived;
+        private final int[] base;
+
+        Styleables(String appPkg, int[] derived, int[] base) {
+            this.appPkg = appPkg;
+            this.derived = derived;
+            this.base = base;
+        }
+    }
+
+    // guarded by itself:
+    private static final HashMap<Class, Styleables> styleablesCache = new HashMap<>();
+
+    private Styleables getStyleables() {
+        final String appPkg = getContext().getPackageName();
+        synchronized (styleablesCache) {
+            Styleables styleables = styleablesCache.get(getClass());
+            if (styleables == null || !styleables.appPkg.equals(appPkg)) {
+                styleables = resolveStyleables(appPkg);
+                styleablesCache.put(getClass(), styleables);
+            }
+            return styleables;
+        }
+    }
+
+    private Styleables resolveStyleables(String appPkg) {
+        Class styleableClass = null;
+        try {
+            /**
+             * Need to retrieve R$styleable.class dynamically to avoid exceptions
+             * in environments where this class does not exist, such as .jar users
+             * that have not merged the library's attrs.xml with their own.
+             */
+            styleableClass = Class.forName(appPkg + ".R$styleable");
+
+        } catch (ClassNotFoundException e) {
+            // when running as a preview in IntelliJ or AndroidStudio it seems that the package of R is
+            // something else; this fixes that issue:
+            if(isInEditMode()) {
+                styleableClass = R.styleable.class;
+            }
+        }
+
+        if(styleableClass == null) {
+            return new Styleables(appPkg, null, null);
+        }
+        String styleableName = getClass().getName().substring(BASE_PACKAGE.length());
+        styleableName = styleableName.replace('.', '_');
+        return new Styleables(appPkg, getStyleable(styleableClass, styleableName),
+                getStyleable(styleableClass, Plot.class.getSimpleName()));
+    }
+
+    private static int[] getStyleable(Class styleableClass, String styleableName) {
+        try {
+            /**
+             * Use reflection to safely check for the existence of styleable defs for Plot
+             * and it's derivatives.  This safety check is necessary to avoid runtime exceptions
+             * in apps that don't include Androidplot as a .aar and won't have access to
+             * the resources defined in the core library.
+             */
+            return (int[]) styleableClass.getField(styleableName).get(null);
+        } catch (NoSuchFieldException e) {
+            Log.d(TAG, "Styleable definition not found for: " + styleableName);
+        } catch (IllegalAccessException e) {
+            // nothing to do
+        }
+        return null;
+    }
+
     public RenderMode getRenderMode() {
         return renderMode;
     }
 
-    public synchronized boolean addListener(PlotListener listener) {
-        return !listeners.contains(listener) && listeners.add(listener);
+    /**
+     * Adds a listener.  Safe to call from any thread, including while the plot is rendering;
+     * the change takes effect from the next notification onward.
+     * @param listener
+     * @return True if the listener was added, false if it was already registered.
+     */
+    public boolean addListener(PlotListener listener) {
+        synchronized (listenersLock) {
+            final PlotListener[] current = listeners;
+            if (indexOf(current, listener) >= 0) {
+                return false;
+            }
+            final PlotListener[] updated = new PlotListener[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, current.length);
+            updated[current.length] = listener;
+            listeners = updated;
+            return true;
+        }
     }
 
-    public synchronized boolean removeListener(PlotListener listener) {
-        return listeners.remove(listener);
+    /**
+     * Removes a listener.  Safe to call from any thread, including while the plot is rendering.
+     * @param listener
+     * @return True if the listener was removed, false if it was not registered.
+     */
+    public boolean removeListener(PlotListener listener) {
+        synchronized (listenersLock) {
+            final PlotListener[] current = listeners;
+            final int index = indexOf(current, listener);
+            if (index < 0) {
+                return false;
+            }
+            final PlotListener[] updated = new PlotListener[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, index);
+            System.arraycopy(current, index + 1, updated, index, updated.length - index);
+            listeners = updated;
+            return true;
+        }
+    }
+
+    private static int indexOf(PlotListener[] listeners, PlotListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i].equals(listener)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     protected void notifyListenersBeforeDraw(Canvas canvas) {
-        for (PlotListener listener : listeners) {
-            listener.onBeforeDraw(this, canvas);
+        final PlotListener[] listeners = this.listeners;
+        drawListeners = listeners;
+        for (int i = 0; i < listeners.length; i++) {
+            listeners[i].onBeforeDraw(this, canvas);
         }
     }
 
     protected void notifyListenersAfterDraw(Canvas canvas) {
-        for (PlotListener listener : listeners) {
-            listener.onAfterDraw(this, canvas);
+        final PlotListener[] listeners = drawListeners != null ? drawListeners : this.listeners;
+        drawListeners = null;
+        for (int i = 0; i < listeners.length; i++) {
+            listeners[i].onAfterDraw(this, canvas);
         }
     }
 
@@ -591,12 +695,7 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
      * @return The {@link SeriesAndFormatter} that matches the series and rendererClass params, or null if one is not found.
      */
     protected SeriesAndFormatter<SeriesType, FormatterType> getSeries(SeriesType series, Class<? extends RendererType> rendererClass) {
-        for(SeriesAndFormatter<SeriesType, FormatterType> thisPair : seriesRegistry) {
-            if(thisPair.getSeries() == series && thisPair.getFormatter().getRendererClass() == rendererClass) {
-                return thisPair;
-            }
-        }
-        return null;
+        return seriesRegistry.get(series, rendererClass);
     }
 
     /**
@@ -605,14 +704,7 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
      * @return A List of {@link SeriesAndFormatter} instances that reference series.
      */
     protected List<SeriesAndFormatter<SeriesType, FormatterType>> getSeries(SeriesType series) {
-        List<SeriesAndFormatter<SeriesType, FormatterType>> results =
-                new ArrayList<>();
-        for(SeriesAndFormatter<SeriesType, FormatterType> thisPair : seriesRegistry) {
-            if(thisPair.getSeries() == series) {
-                results.add(thisPair);
-            }
-        }
-        return results;
+        return new ArrayList<>(seriesRegistry.get(series));
     }
 
     /**
@@ -649,10 +741,8 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
      */
     public synchronized void removeSeries(SeriesType series) {
 
-        for(Iterator<SeriesAndFormatter<SeriesType, FormatterType>> it = getSeriesRegistry().iterator(); it.hasNext();) {
-            if(it.next().getSeries() == series) {
-                it.remove();
-            }
+        for(SeriesAndFormatter<SeriesType, FormatterType> thisPair : getSeries(series)) {
+            getSeriesRegistry().remove(thisPair);
         }
 
         // if series implements PlotListener, remove it from listeners:
@@ -698,20 +788,38 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
     }
 
     /**
-     * Causes the plot to be redrawn.
+     * Causes the plot to be redrawn.  Requests are coalesced so that the plot is rendered at most
+     * once per tick of the {@link FrameClock}, however frequently this method is called; the most
+     * recent request is never dropped.  May be called from any thread.
      * @since 0.5.1
      */
     public void redraw() {
+        displayListInvalid = true;
+        frameScheduler.requestFrame();
+    }
 
-        if (renderMode == RenderMode.USE_BACKGROUND_THREAD) {
+    /**
+     * Like {@link #redraw()} but for changes that only affect the overlays drawn by
+     * {@link #drawOverlays(Canvas)}, such as moving a cursor.  When display lists are enabled the
+     * recorded content is replayed rather than redrawn; otherwise equivalent to {@link #redraw()}.
+     * May be called from any thread.
+     * @since 0.9.8
+     */
+    public void redrawOverlays() {
+        frameScheduler.requestFrame();
+    }
 
-            // only enter synchronized block if the call is expected to block OR
-            // if the render thread is idle, so we know that we won't have to wait to
-            // obtain a lock.
-            if (isIdle) {
-                synchronized (renderSynch) {
-                    renderSynch.notify();
-                }
+    /**
+     * Invoked at most once per frame tick when a redraw has been requested.
+     */
+    private void onFrame() {
+        if (renderMode == RenderMode.USE_BACKGROUND_THREAD) {
+            final FramePipeline pipeline = framePipeline;
+            if(pipeline != null) {
+                // the render thread is notified once the frame has been prepared:
+                pipeline.requestPrepare();
+            } else {
+                requestRender();
             }
         } else if(renderMode == RenderMode.USE_MAIN_THREAD) {
 
@@ -726,6 +834,108 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
         }
     }
 
+    private void requestRender() {
+        synchronized (renderSynch) {
+            renderRequested = true;
+            renderSynch.notify();
+        }
+    }
+
+    /**
+     * Enables or disables pipelined frame preparation.  When enabled and using
+     * {@link RenderMode#USE_BACKGROUND_THREAD}, the preparation stage of each frame (see
+     * {@link #prepareFrame()}) runs on a worker thread, so that the next frame is prepared while
+     * the current one is being drawn.  Has no effect in other render modes.  Disabled by default.
+     * @param enabled
+     * @since 0.9.8
+     */
+    public synchronized void setFramePipelineEnabled(boolean enabled) {
+        if(enabled == isFramePipelineEnabled()) {
+            return;
+        }
+        if(enabled) {
+            framePipeline = new FramePipeline(new Callable<PreparedFrame>() {
+                @Override
+                public PreparedFrame call() throws Exception {
+                    return prepareFrame();
+                }
+            }, new Runnable() {
+                @Override
+                public void run() {
+                    requestRender();
+                }
+            });
+        } else {
+            framePipeline = null;
+        }
+    }
+
+    public boolean isFramePipelineEnabled() {
+        return framePipeline != null;
+    }
+
+    /**
+     * The preparation stage of the render path; snapshots series data and computes everything
+     * needed to draw a frame that does not involve issuing canvas calls.  When pipelining is
+     * enabled this is invoked on a worker thread, possibly while the previous frame is being drawn,
+     * so implementations must not modify state read while drawing.  The default implementation
+     * prepares nothing, in which case all work happens in {@link #renderOnCanvas(Canvas)}.
+     * @return The prepared frame, to be passed to {@link #renderOnCanvas(Canvas, PreparedFrame)},
+     * or null.
+     * @since 0.9.8
+     */
+    protected PreparedFrame prepareFrame() {
+        return null;
+    }
+
+    /**
+     * Notifies listeners that are also {@link Series} that their data is about to be read by
+     * the preparation stage, giving them the opportunity to lock it.  Other listeners are only
+     * notified when a frame is drawn.  The canvas passed to listeners is always null.
+     */
+    protected void notifySeriesListenersBeforePrepare() {
+        final PlotListener[] listeners = this.listeners;
+        prepareListeners = listeners;
+        for (int i = 0; i < listeners.length; i++) {
+            if(listeners[i] instanceof Series) {
+                listeners[i].onBeforeDraw(this, null);
+            }
+        }
+    }
+
+    protected void notifySeriesListenersAfterPrepare() {
+        final PlotListener[] listeners = prepareListeners != null ? prepareListeners : this.listeners;
+        prepareListeners = null;
+        for (int i = 0; i < listeners.length; i++) {
+            if(listeners[i] instanceof Series) {
+                listeners[i].onAfterDraw(this, null);
+            }
+        }
+    }
+
+    /**
+     * @return Time taken to render the most recently rendered frame, in nanoseconds.
+     * @since 0.9.8
+     */
+    public long getLastRenderDuration() {
+        return lastRenderDurationNanos;
+    }
+
+    /**
+     * Sets the clock used to pace redraws.  Defaults to a {@link VsyncFrameClock}.  A
+     * {@link com.androidplot.util.ManualFrameClock} can be used to control rendering explicitly,
+     * for example in tests.
+     * @param clock
+     * @since 0.9.8
+     */
+    public void setFrameClock(FrameClock clock) {
+        frameScheduler.setClock(clock);
+    }
+
+    public FrameClock getFrameClock() {
+        return frameScheduler.getClock();
+    }
+
     @Override
     public synchronized void layout(final DisplayDimensions dims) {
         this.displayDims = dims;
@@ -739,6 +949,77 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
             keepRunning = false;
             renderSynch.notify();
         }
+        releaseBuffers();
+        PlotBufferManager.getInstance().unregister(this);
+    }
+
+    @Override
+    protected void onWindowVisibilityChanged(int visibility) {
+        super.onWindowVisibilityChanged(visibility);
+        if (visibility == View.VISIBLE) {
+            // buffers released while hidden are recreated by the next frame:
+            redraw();
+        } else {
+            releaseBuffers();
+        }
+    }
+
+    /**
+     * Frees the offscreen buffers held by this plot, along with any caches held by its widgets.
+     * Buffers are recreated the next time the plot is rendered.  Called automatically when the
+     * plot is detached or its window is hidden, and by {@link PlotBufferManager} when the
+     * application's onTrimMemory(int) reports that its UI is hidden or memory is low.  Must be
+     * invoked on the main thread.
+     * <p>
+     * Never waits for a render in progress; buffers and caches in use by the render thread are
+     * freed by that thread as soon as it is done with them.
+     * @since 0.9.8
+     */
+    public void releaseBuffers() {
+        swapChain.release();
+        final boolean handedOff;
+        synchronized (renderSynch) {
+            releaseRequested = true;
+            handedOff = renderThreadRunning;
+            renderSynch.notify();
+        }
+        if (!handedOff) {
+            // there is no render thread to do it for us:
+            releasePendingBuffers();
+        }
+    }
+
+    /**
+     * Frees the buffers and caches owned by the render thread, if a release has been requested.
+     * Must only be invoked by the render thread, or while there is none.
+     */
+    private void releasePendingBuffers() {
+        synchronized (renderSynch) {
+            if (!releaseRequested) {
+                return;
+            }
+            releaseRequested = false;
+        }
+        swapChain.releaseBackBuffer();
+        synchronized (this) {
+            displayList = null;
+            onReleaseBuffers();
+        }
+    }
+
+    /**
+     * Invoked after {@link #releaseBuffers()}, while holding the plot's monitor, to free any caches
+     * held by the plot's implementation.  Runs on the render thread in
+     * {@link RenderMode#USE_BACKGROUND_THREAD} mode and on the calling thread otherwise.
+     */
+    protected void onReleaseBuffers() {}
+
+    /**
+     * @return Bytes of bitmap memory currently held by this plot's offscreen buffers.
+     * @since 0.9.8
+     */
+    public long getBufferBytes() {
+        return swapChain.getAllocatedBytes();
     }
 
 
@@ -757,20 +1038,41 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
             }
         }
 
-        // pingPong is only used in background rendering mode.
+        // swapChain is only used in background rendering mode.
         if(renderMode == RenderMode.USE_BACKGROUND_THREAD) {
-            pingPong.resize(h, w);
+            swapChain.resize(w, h);
+            redraw();
+        }
+
+        layout(getDisplayDimensionsFor(w, h));
+        super.onSizeChanged(w, h, oldw, oldh);
+        if(renderThread != null && !renderThread.isAlive()) {
+            synchronized (renderSynch) {
+                renderThreadRunning = true;
+            }
+            renderThread.start();
         }
+    }
 
+    private DisplayDimensions getDisplayDimensionsFor(int w, int h) {
         RectF cRect = new RectF(0, 0, w, h);
         RectF mRect = boxModel.getMarginatedRect(cRect);
         RectF pRect = boxModel.getPaddedRect(mRect);
+        return new DisplayDimensions(cRect, mRect, pRect);
+    }
 
-        layout(new DisplayDimensions(cRect, mRect, pRect));
-        super.onSizeChanged(w, h, oldw, oldh);
-        if(renderThread != null && !renderThread.isAlive()) {
-            renderThread.start();
+    /**
+     * Lays out the plot for a w x h canvas without involving the View hierarchy.  Does nothing
+     * if the plot is already laid out at that size.  Used by {@link PlotRenderer}.
+     * @param w
+     * @param h
+     */
+    synchronized void layoutHeadless(int w, int h) {
+        final RectF canvasRect = displayDims.canvasRect;
+        if(canvasRect != null && canvasRect.width() == w && canvasRect.height() == h) {
+            return;
         }
+        layout(getDisplayDimensionsFor(w, h));
     }
 
     /**
@@ -781,11 +1083,13 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
     @Override
     protected void onDraw(Canvas canvas) {
         if (renderMode == RenderMode.USE_BACKGROUND_THREAD) {
-            synchronized(pingPong) {
-                Bitmap bmp = pingPong.getBitmap();
-                if(bmp != null) {
-                    canvas.drawBitmap(bmp, 0, 0, null);
-                }
+            // never blocks; draws the most recently completed frame:
+            Bitmap bmp = swapChain.getLatestFrame();
+            if(bmp != null) {
+                canvas.drawBitmap(bmp, 0, 0, null);
+            } else {
+                // buffers may have been released; render a new frame:
+                redraw();
             }
         } else if (renderMode == RenderMode.USE_MAIN_THREAD) {
             renderOnCanvas(canvas);
@@ -802,6 +1106,18 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
      * @param canvas
      */
     protected synchronized void renderOnCanvas(Canvas canvas) {
+        renderOnCanvas(canvas, null);
+    }
+
+    /**
+     * The drawing stage of the render path.
+     * @param canvas
+     * @param frame The frame produced by {@link #prepareFrame()} or null, in which case
+     *              any preparation happens inline.
+     * @since 0.9.8
+     */
+    protected synchronized void renderOnCanvas(Canvas canvas, PreparedFrame frame) {
+        final long renderStart = System.nanoTime();
         try {
             // any series interested in synchronizing with plot should
             // implement PlotListener.onBeforeDraw(...) and do a read lock from within its
@@ -812,14 +1128,14 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
                 // some odd aliasing artifacts begin to build up around the edges of aa'd entities
                 // over time.
                 canvas.drawColor(Color.TRANSPARENT, PorterDuff.Mode.CLEAR);
-                if (backgroundPaint != null) {
-                    drawBackground(canvas, displayDims.marginatedRect);
-                }
-
-                layoutManager.draw(canvas);
-
-                if (getBorderPaint() != null) {
-                    drawBorder(canvas, displayDims.marginatedRect);
+                if (displayListEnabled) {
+                    if (displayListInvalid || !isDisplayListCurrent()) {
+                        recordDisplayList();
+                    }
+                    canvas.drawPicture(displayList);
+                    drawOverlays(canvas);
+                } else {
+                    drawContent(canvas);
                 }
             } catch (PlotRenderException e) {
                 Log.e(TAG, "Exception while rendering Plot.", e);
@@ -827,7 +1143,7 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
                 Log.e(TAG, "Exception while rendering Plot.", e);
             }
         } finally {
-            isIdle = true;
+            lastRenderDurationNanos = System.nanoTime() - renderStart;
             // any series interested in synchronizing with plot should
             // implement PlotListener.onAfterDraw(...) and do a read unlock from within that
             // invocation. This is the entry point for that invocation.
@@ -836,6 +1152,95 @@ public abstract class Plot<SeriesType extends Series, FormatterType extends Form
     }
 
 
+    /**
+     * Draws everything but the overlays; when display lists are enabled this is the content
+     * that gets recorded.
+     * @param canvas
+     * @throws PlotRenderException
+     */
+    private void drawContent(Canvas canvas) throws PlotRenderException {
+        if (backgroundPaint != null) {
+            drawBackground(canvas, displayDims.marginatedRect);
+        }
+
+        layoutManager.draw(canvas);
+
+        if (getBorderPaint() != null) {
+            drawBorder(canvas, displayDims.marginatedRect);
+        }
+    }
+
+    private void recordDisplayList() throws PlotRenderException {
+        // cleared first so that a redraw() requested while recording is not lost:
+        displayListInvalid = false;
+        final Picture picture = new Picture();
+        final Canvas recordingCanvas = picture.beginRecording(
+                (int) Math.ceil(displayDims.canvasRect.width()),
+                (int) Math.ceil(displayDims.canvasRect.height()));
+        try {
+            drawContent(recordingCanvas);
+        } finally {
+            picture.endRecording();
+        }
+        displayList = picture;
+        displayListDims = displayDims;
+        displayListModCount = seriesRegistry.getModCount();
+        onDisplayListRecorded();
+    }
+
+    /**
+     * Enables or disables display lists.  When enabled, everything but the overlays drawn by
+     * {@link #drawOverlays(Canvas)} (such as cursors and markers) is recorded into a
+     * {@link Picture} which is replayed by subsequent frames for as long as the plot's inputs
+     * are unchanged, making redraws for interactive inspection of static data nearly free.
+     * Every {@link #redraw()} re-records, as do changes to the plot's size, its series and,
+     * for XYPlot, its calculated bounds.  Frames requested via {@link #redrawOverlays()} or by
+     * the system (for example when the view is invalidated by scrolling) replay the recording.
+     * Overlays are drawn on top of all widgets.  Disabled by default.
+     * @param enabled
+     * @since 0.9.8
+     */
+    public synchronized void setDisplayListEnabled(boolean enabled) {
+        this.displayListEnabled = enabled;
+        displayList = null;
+    }
+
+    public boolean isDisplayListEnabled() {
+        return displayListEnabled;
+    }
+
+    /**
+     * Discards the recorded display list, forcing the next frame to be recorded anew, without
+     * requesting a frame.
+     * @since 0.9.8
+     */
+    public synchronized void invalidateDisplayList() {
+        displayList = null;
+    }
+
+    /**
+     * @return True if the recorded display list reflects the plot's current inputs.  Extending
+     * classes that track additional inputs should also check super's result.
+     */
+    protected boolean isDisplayListCurrent() {
+        return displayList != null && displayListDims == displayDims &&
+                displayListModCount == seriesRegistry.getModCount();
+    }
+
+    /**
+     * Invoked after a display list has been recorded so that extending classes can remember
+     * the inputs it was recorded with.
+     */
+    protected void onDisplayListRecorded() {}
+
+    /**
+     * Draws content that changes independently of the plot's data when display lists are
+     * enabled; see {@link #setDisplayListEnabled(boolean)}.  The default implementation draws
+     * nothing.
+     * @param canvas
+     */
+    protected void drawOverlays(Canvas canvas) {}
+
     /**
      * Sets the visual style of the plot's border.
      * @param style
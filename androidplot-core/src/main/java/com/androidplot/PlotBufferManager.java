@@ -0,0 +1,203 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.androidplot;
+
+import android.annotation.TargetApi;
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.os.Build;
+import com.androidplot.util.BitmapPool;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Manages the offscreen buffers of plots using {@link Plot.RenderMode#USE_BACKGROUND_THREAD}.
+ * Buffers are taken from and returned to a {@link BitmapPool} shared by all plots, so plots of
+ * equal size reuse each other's buffers.  Plots release their buffers when detached or hidden
+ * and recreate them the next time they are drawn; the manager additionally releases buffers and
+ * trims the pool in response to memory pressure, see {@link #onTrimMemory(int)}.
+ * @since 0.9.8
+ */
+public class PlotBufferManager {
+
+    private static final long DEFAULT_POOL_BYTES = 8 * 1024 * 1024;
+
+    private static PlotBufferManager instance;
+
+    private final BitmapPool bitmapPool;
+
+    // guarded by this:
+    private final List<WeakReference<Plot>> plots = new ArrayList<>();
+    private Context registeredContext;
+
+    /**
+     * Forwards trim events to the manager.  Kept separate so that ComponentCallbacks2 is
+     * never loaded on platforms that don't provide it.
+     */
+    @TargetApi(14)
+    private static class TrimCallbacks implements ComponentCallbacks2 {
+        private final PlotBufferManager manager;
+
+        TrimCallbacks(PlotBufferManager manager) {
+            this.manager = manager;
+        }
+
+        @Override
+        public void onTrimMemory(int level) {
+            manager.onTrimMemory(level);
+        }
+
+        @Override
+        public void onLowMemory() {
+            manager.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+        }
+
+        @Override
+        public void onConfigurationChanged(Configuration newConfig) {}
+    }
+
+    public static synchronized PlotBufferManager getInstance() {
+        if (instance == null) {
+            instance = new PlotBufferManager(new BitmapPool(DEFAULT_POOL_BYTES));
+        }
+        return instance;
+    }
+
+    PlotBufferManager(BitmapPool bitmapPool) {
+        this.bitmapPool = bitmapPool;
+    }
+
+    /**
+     * Registers the manager to receive trim events from context's application.  Invoked
+     * automatically by each plot using {@link Plot.RenderMode#USE_BACKGROUND_THREAD}.  Only
+     * supported from Ice Cream Sandwich on; on earlier platforms apps should forward
+     * onLowMemory() to {@link #onTrimMemory(int)} themselves.  Idempotent.
+     * @param context
+     */
+    public void registerComponentCallbacks(Context context) {
+        if (Build.VERSION.SDK_INT < 14) {
+            return;
+        }
+        Context appContext = context.getApplicationContext();
+        if (appContext == null) {
+            appContext = context;
+        }
+        synchronized (this) {
+            if (registeredContext == appContext) {
+                return;
+            }
+            registeredContext = appContext;
+        }
+        appContext.registerComponentCallbacks(new TrimCallbacks(this));
+    }
+
+    synchronized void register(Plot plot) {
+        for (WeakReference<Plot> ref : plots) {
+            if (ref.get() == plot) {
+                return;
+            }
+        }
+        plots.add(new WeakReference<>(plot));
+    }
+
+    synchronized void unregister(Plot plot) {
+        final Iterator<WeakReference<Plot>> it = plots.iterator();
+        while (it.hasNext()) {
+            final Plot p = it.next().get();
+            if (p == null || p == plot) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * @return Live registered plots; stale references are pruned.
+     */
+    private synchronized List<Plot> getPlots() {
+        final List<Plot> result = new ArrayList<>(plots.size());
+        final Iterator<WeakReference<Plot>> it = plots.iterator();
+        while (it.hasNext()) {
+            final Plot p = it.next().get();
+            if (p == null) {
+                it.remove();
+            } else {
+                result.add(p);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Responds to memory pressure.  Must be invoked on the main thread, as
+     * ComponentCallbacks2.onTrimMemory(int) is.
+     * <ul>
+     *     <li>TRIM_MEMORY_RUNNING_LOW: the pool is trimmed to half its capacity.</li>
+     *     <li>TRIM_MEMORY_RUNNING_CRITICAL: the pool is cleared.</li>
+     *     <li>TRIM_MEMORY_UI_HIDDEN and above: all plots release their buffers.  Moderate and
+     *     above also clear the pool.</li>
+     * </ul>
+     * @param level One of the ComponentCallbacks2.TRIM_MEMORY_* levels.
+     */
+    public void onTrimMemory(int level) {
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN) {
+            for (Plot plot : getPlots()) {
+                plot.releaseBuffers();
+            }
+        }
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE
+                || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+            bitmapPool.clear();
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            bitmapPool.trimToSize(bitmapPool.getMaxBytes() / 2);
+        }
+    }
+
+    public BitmapPool getBitmapPool() {
+        return bitmapPool;
+    }
+
+    /**
+     * @return Bytes of bitmap memory currently held by the buffers of registered plots.
+     */
+    public long getPlotBufferBytes() {
+        long total = 0;
+        for (Plot plot : getPlots()) {
+            total += plot.getBufferBytes();
+        }
+        return total;
+    }
+
+    /**
+     * @return Bytes of bitmap memory held by the pool for reuse.
+     */
+    public long getPooledBytes() {
+        return bitmapPool.getPooledBytes();
+    }
+
+    /**
+     * @return Total bytes of bitmap memory held on behalf of plots; the sum of
+     * {@link #getPlotBufferBytes()} and {@link #getPooledBytes()}.
+     */
+    public long getTotalBytes() {
+        return getPlotBufferBytes() + getPooledBytes();
+    }
+}
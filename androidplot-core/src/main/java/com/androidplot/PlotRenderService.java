@@ -0,0 +1,223 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.androidplot;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import com.androidplot.util.BitmapPool;
+import com.androidplot.util.PlotExecutors;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders many plots concurrently, for example to generate report images or notification
+ * thumbnails in bulk.  Each job creates its plot via a {@link PlotFactory} on a worker thread and
+ * renders it with {@link PlotRenderer} into a bitmap taken from a {@link BitmapPool}.
+ *
+ * The number of jobs that may be outstanding at once is bounded; once that limit is reached
+ * {@link #submit(PlotFactory, int, int)} blocks until a job completes, so that producers can't
+ * queue more work (and bitmaps) than the service can keep up with.
+ *
+ * Bitmaps delivered by the service should be handed back via {@link #recycle(Bitmap)} once they
+ * are no longer needed so that they can be reused by subsequent jobs.
+ * @since 0.9.8
+ */
+public class PlotRenderService {
+
+    private static final long DEFAULT_POOL_BYTES = 16 * 1024 * 1024;
+
+    /**
+     * Creates and configures the plot to be rendered by a job.  Invoked on a worker thread;
+     * implementations must not share plot instances between jobs.
+     */
+    public interface PlotFactory {
+        Plot createPlot(Context context);
+    }
+
+    /**
+     * Receives the result of a job.  Invoked on the worker thread that ran the job.  Exactly one
+     * of the two methods is invoked per job; onError is only invoked for failures to render, not
+     * for exceptions thrown by onRendered.
+     */
+    public interface Callback {
+
+        /**
+         * @param bitmap The rendered bitmap.  If this method throws, the bitmap is returned to
+         *               the service's pool and must not be used afterwards.
+         */
+        void onRendered(Bitmap bitmap);
+        void onError(Exception e);
+    }
+
+    private final Context context;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final BitmapPool bitmapPool;
+    private final Bitmap.Config config;
+
+    /**
+     * Creates a service with a worker per available processor, allowing twice as many
+     * outstanding jobs and pooling up to 16MB of bitmaps.
+     * @param context
+     */
+    public PlotRenderService(Context context) {
+        this(context, PlotExecutors.getParallelism(), PlotExecutors.getParallelism() * 2,
+                new BitmapPool(DEFAULT_POOL_BYTES), Bitmap.Config.ARGB_8888);
+    }
+
+    /**
+     *
+     * @param context
+     * @param threads Number of worker threads.
+     * @param maxOutstanding Maximum number of jobs submitted but not yet completed.
+     * @param bitmapPool Pool from which output bitmaps are taken.
+     * @param config Config of output bitmaps.
+     */
+    public PlotRenderService(Context context, int threads, int maxOutstanding,
+                             BitmapPool bitmapPool, Bitmap.Config config) {
+        if (threads < 1 || maxOutstanding < 1) {
+            throw new IllegalArgumentException("threads and maxOutstanding must be positive.");
+        }
+        this.context = context.getApplicationContext() != null ?
+                context.getApplicationContext() : context;
+        this.permits = new Semaphore(maxOutstanding);
+        this.bitmapPool = bitmapPool;
+        this.config = config;
+        this.executor = PlotExecutors.newFixedThreadPool(threads, "Androidplot Render Service");
+    }
+
+    /**
+     * Submits a job, blocking while the maximum number of jobs are outstanding.
+     * @param factory
+     * @param width
+     * @param height
+     * @return A future yielding the rendered bitmap.
+     * @throws InterruptedException If interrupted while waiting for a job to complete.
+     */
+    public Future<Bitmap> submit(PlotFactory factory, int width, int height)
+            throws InterruptedException {
+        return submit(factory, width, height, null);
+    }
+
+    /**
+     * Submits a job, blocking while the maximum number of jobs are outstanding.
+     * @param factory
+     * @param width
+     * @param height
+     * @param callback Notified when the job completes.  May be null.
+     * @return A future yielding the rendered bitmap.
+     * @throws InterruptedException If interrupted while waiting for a job to complete.
+     */
+    public Future<Bitmap> submit(PlotFactory factory, int width, int height, Callback callback)
+            throws InterruptedException {
+        permits.acquire();
+        return schedule(factory, width, height, callback);
+    }
+
+    /**
+     * Submits a job unless the maximum number of jobs are still outstanding after waiting
+     * for up to timeout.
+     * @param factory
+     * @param width
+     * @param height
+     * @param callback Notified when the job completes.  May be null.
+     * @param timeout
+     * @param unit
+     * @return A future yielding the rendered bitmap, or null if the job was not submitted.
+     * @throws InterruptedException If interrupted while waiting for a job to complete.
+     */
+    public Future<Bitmap> trySubmit(PlotFactory factory, int width, int height, Callback callback,
+                                    long timeout, TimeUnit unit) throws InterruptedException {
+        if (!permits.tryAcquire(timeout, unit)) {
+            return null;
+        }
+        return schedule(factory, width, height, callback);
+    }
+
+    private Future<Bitmap> schedule(final PlotFactory factory, final int width, final int height,
+                                    final Callback callback) {
+        try {
+            return executor.submit(new Callable<Bitmap>() {
+                @Override
+                public Bitmap call() throws Exception {
+                    try {
+                        final Bitmap bitmap;
+                        try {
+                            bitmap = render(factory, width, height);
+                        } catch (Exception e) {
+                            if (callback != null) {
+                                callback.onError(e);
+                            }
+                            throw e;
+                        }
+                        if (callback != null) {
+                            try {
+                                callback.onRendered(bitmap);
+                            } catch (RuntimeException e) {
+                                bitmapPool.release(bitmap);
+                                throw e;
+                            }
+                        }
+                        return bitmap;
+                    } finally {
+                        permits.release();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private Bitmap render(PlotFactory factory, int width, int height) {
+        final Bitmap bitmap = bitmapPool.acquire(width, height, config);
+        try {
+            PlotRenderer.render(factory.createPlot(context), bitmap);
+            return bitmap;
+        } catch (RuntimeException e) {
+            bitmapPool.release(bitmap);
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a bitmap produced by this service to its pool.  The caller must not use bitmap
+     * afterwards.
+     * @param bitmap
+     */
+    public void recycle(Bitmap bitmap) {
+        bitmapPool.release(bitmap);
+    }
+
+    public BitmapPool getBitmapPool() {
+        return bitmapPool;
+    }
+
+    /**
+     * Stops accepting jobs.  Jobs already submitted are still completed.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
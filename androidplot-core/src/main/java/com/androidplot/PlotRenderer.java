@@ -0,0 +1,94 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.androidplot;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.os.Build;
+
+/**
+ * Renders plots into bitmaps without attaching them to a window, for example to produce app
+ * widget images or report thumbnails:
+ * <pre>
+ * {@code
+ * Bitmap bitmap = PlotRenderer.render(plot, width, height, previousBitmap);
+ * }
+ * </pre>
+ * The plot is laid out directly rather than through {@link android.view.View#measure(int, int)}
+ * and {@link android.view.View#layout(int, int, int, int)}, and its layout is reused by subsequent
+ * calls at the same size.  Rendering always happens synchronously on the calling thread,
+ * regardless of the plot's {@link Plot.RenderMode}.
+ * @since 0.9.8
+ */
+public final class PlotRenderer {
+
+    // reused to avoid allocating a Canvas per render:
+    private static final ThreadLocal<Canvas> CANVAS = new ThreadLocal<Canvas>() {
+        @Override
+        protected Canvas initialValue() {
+            return new Canvas();
+        }
+    };
+
+    private PlotRenderer() {}
+
+    /**
+     * Renders plot into a bitmap.
+     * @param plot
+     * @param width Width of the rendered image in pixels.
+     * @param height Height of the rendered image in pixels.
+     * @param reuse A bitmap to render into, or null.  Used if it is mutable and exactly
+     *              width x height, otherwise a new ARGB_8888 bitmap is created.
+     * @return The bitmap the plot was rendered into; either reuse or a newly created bitmap.
+     */
+    public static Bitmap render(Plot plot, int width, int height, Bitmap reuse) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("width and height must be greater than 0.");
+        }
+        final Bitmap bitmap = isReusable(reuse, width, height) ? reuse :
+                Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        render(plot, bitmap);
+        return bitmap;
+    }
+
+    /**
+     * Renders plot into bitmap, using the bitmap's dimensions as the size of the plot.
+     * @param plot
+     * @param bitmap A mutable bitmap.
+     */
+    public static void render(Plot plot, Bitmap bitmap) {
+        final Canvas canvas = CANVAS.get();
+        canvas.setBitmap(bitmap);
+        try {
+            plot.layoutHeadless(bitmap.getWidth(), bitmap.getHeight());
+            // the data may have changed without a redraw() having been requested:
+            plot.invalidateDisplayList();
+            plot.renderOnCanvas(canvas);
+        } finally {
+            // don't keep the bitmap reachable from this thread; null is only accepted from honeycomb on:
+            if (Build.VERSION.SDK_INT >= 11) {
+                canvas.setBitmap(null);
+            }
+        }
+    }
+
+    private static boolean isReusable(Bitmap bitmap, int width, int height) {
+        return bitmap != null && !bitmap.isRecycled() && bitmap.isMutable() &&
+                bitmap.getWidth() == width && bitmap.getHeight() == height;
+    }
+}
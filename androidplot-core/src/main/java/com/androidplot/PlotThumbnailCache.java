@@ -0,0 +1,317 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.androidplot;
+
+import android.graphics.Bitmap;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import com.androidplot.util.BitmapPool;
+import com.androidplot.util.PlotExecutors;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A least recently used cache of plot images for displaying many charts in a scrolling
+ * list without a live {@link Plot} per row.  A single offscreen plot renders each image once
+ * via {@link PlotRenderer} on a background thread; rows then simply draw the cached bitmap:
+ * <pre>
+ * {@code
+ * Bitmap bitmap = cache.get(dataset, dataset.getVersion(), width, height);
+ * if(bitmap != null) {
+ *     imageView.setImageBitmap(bitmap);
+ * }
+ * }
+ * </pre>
+ * While a newer version of an image is being rendered, {@link #get(Object, long, int, int)}
+ * keeps returning the previous one so rows never go blank.  Once the render completes,
+ * {@link Listener#onThumbnailReady(Object, Bitmap)} is invoked on the main thread.
+ * <p>
+ * Bitmaps evicted from the cache are not recycled since they may still be displayed.
+ * @since 0.9.8
+ */
+public class PlotThumbnailCache<K> {
+
+    private static final String TAG = PlotThumbnailCache.class.getName();
+
+    /**
+     * Configures the offscreen plot to display the data identified by key.  Invoked on the
+     * render thread immediately before each render.
+     */
+    public interface Binder<K> {
+        void bind(Plot plot, K key);
+    }
+
+    public interface Listener<K> {
+
+        /**
+         * Invoked on the main thread when a newly rendered image has been cached.
+         * @param key
+         * @param bitmap
+         */
+        void onThumbnailReady(K key, Bitmap bitmap);
+    }
+
+    private static class Entry {
+        private Bitmap bitmap;
+        private long version;
+        private int width;
+        private int height;
+
+        // version and size of the render in flight, if any:
+        private boolean pending;
+        private long pendingVersion;
+        private int pendingWidth;
+        private int pendingHeight;
+
+        boolean isCurrent(long version, int width, int height) {
+            return bitmap != null && this.version == version &&
+                    this.width == width && this.height == height;
+        }
+
+        boolean isPending(long version, int width, int height) {
+            return pending && pendingVersion == version &&
+                    pendingWidth == width && pendingHeight == height;
+        }
+    }
+
+    private static ExecutorService sharedExecutor;
+
+    private final Plot plot;
+    private final Binder<K> binder;
+    private final Executor executor;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final LinkedHashMap<K, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long maxBytes;
+    private long cachedBytes;
+    private volatile Listener<K> listener;
+
+    private static synchronized ExecutorService getSharedExecutor() {
+        if(sharedExecutor == null) {
+            // a single thread; renders share one offscreen plot:
+            sharedExecutor = PlotExecutors.newSingleThreadExecutor("Androidplot Thumbnail Renderer");
+        }
+        return sharedExecutor;
+    }
+
+    /**
+     *
+     * @param plot An offscreen plot, not attached to any window, used to render every image.
+     * @param binder
+     * @param maxBytes Maximum number of bytes of bitmap memory retained by the cache.
+     */
+    public PlotThumbnailCache(Plot plot, Binder<K> binder, long maxBytes) {
+        this(plot, binder, maxBytes, getSharedExecutor());
+    }
+
+    /**
+     *
+     * @param plot An offscreen plot, not attached to any window, used to render every image.
+     * @param binder
+     * @param maxBytes Maximum number of bytes of bitmap memory retained by the cache.
+     * @param executor Runs renders.  Renders are serialized on plot so additional threads
+     *                 do not render concurrently.
+     */
+    public PlotThumbnailCache(Plot plot, Binder<K> binder, long maxBytes, Executor executor) {
+        this.plot = plot;
+        this.binder = binder;
+        this.maxBytes = maxBytes;
+        this.executor = executor;
+    }
+
+    /**
+     * Retrieves the image for key, scheduling a render if there is no image of the requested
+     * version and size and none is already in progress.
+     * @param key Identifies the dataset, typically the dataset itself or a stable id.
+     * @param version Version of the dataset's contents; a different value triggers a re-render.
+     * @param width
+     * @param height
+     * @return The requested image if cached, otherwise the most recent image for key
+     * or null if there is none.
+     */
+    public Bitmap get(K key, long version, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("width and height must be greater than 0.");
+        }
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                entry = new Entry();
+                entries.put(key, entry);
+            }
+            if (!entry.isCurrent(version, width, height) && !entry.isPending(version, width, height)) {
+                entry.pending = true;
+                entry.pendingVersion = version;
+                entry.pendingWidth = width;
+                entry.pendingHeight = height;
+                submit(key, version, width, height);
+            }
+            return entry.bitmap;
+        }
+    }
+
+    /**
+     * Removes the image for key.  A render already in progress for key is discarded.
+     * @param key
+     */
+    public synchronized void remove(K key) {
+        final Entry entry = entries.remove(key);
+        if (entry != null && entry.bitmap != null) {
+            cachedBytes -= BitmapPool.sizeOf(entry.bitmap);
+        }
+    }
+
+    /**
+     * Removes all images.  Renders already in progress are discarded.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        cachedBytes = 0;
+    }
+
+    /**
+     * @return Number of bytes of bitmap memory currently retained by the cache.
+     */
+    public synchronized long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    public synchronized long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Sets the maximum number of bytes retained, evicting least recently used images if necessary.
+     * @param maxBytes
+     */
+    public synchronized void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+        trimToSize();
+    }
+
+    public Listener<K> getListener() {
+        return listener;
+    }
+
+    public void setListener(Listener<K> listener) {
+        this.listener = listener;
+    }
+
+    private void submit(final K key, final long version, final int width, final int height) {
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                Bitmap bitmap = null;
+                try {
+                    synchronized (plot) {
+                        if (!isWanted(key, version, width, height)) {
+                            return;
+                        }
+                        binder.bind(plot, key);
+                        bitmap = PlotRenderer.render(plot, width, height, null);
+                    }
+                } catch (RuntimeException e) {
+                    Log.e(TAG, "Failed to render thumbnail for " + key, e);
+                } finally {
+                    if (bitmap == null) {
+                        abandon(key, version, width, height);
+                    }
+                }
+                final Bitmap rendered = bitmap;
+                if (rendered != null && store(key, version, width, height, rendered)) {
+                    handler.post(new Runnable() {
+                        @Override
+                        public void run() {
+                            final Listener<K> l = listener;
+                            if (l != null) {
+                                l.onThumbnailReady(key, rendered);
+                            }
+                        }
+                    });
+                }
+            }
+        });
+    }
+
+    /**
+     * @return True if the render described by the params has not been superseded or removed.
+     */
+    private synchronized boolean isWanted(K key, long version, int width, int height) {
+        final Entry entry = entries.get(key);
+        return entry != null && entry.isPending(version, width, height);
+    }
+
+    /**
+     * Clears the pending state of a render that did not produce an image so that the next
+     * {@link #get(Object, long, int, int)} schedules it again.
+     */
+    private synchronized void abandon(K key, long version, int width, int height) {
+        final Entry entry = entries.get(key);
+        if (entry != null && entry.isPending(version, width, height)) {
+            entry.pending = false;
+        }
+    }
+
+    private synchronized boolean store(K key, long version, int width, int height, Bitmap bitmap) {
+        if (!isWanted(key, version, width, height)) {
+            return false;
+        }
+        final Entry entry = entries.get(key);
+        if (entry.bitmap != null) {
+            cachedBytes -= BitmapPool.sizeOf(entry.bitmap);
+        }
+        entry.bitmap = bitmap;
+        entry.version = version;
+        entry.width = width;
+        entry.height = height;
+        entry.pending = false;
+        cachedBytes += BitmapPool.sizeOf(bitmap);
+        trimToSize(key);
+        return true;
+    }
+
+    private void trimToSize() {
+        trimToSize(null);
+    }
+
+    /**
+     * Evicts least recently used images until within maxBytes and drops entries that have
+     * neither an image nor a render in progress.
+     * @param keep Key of an image just stored, which is never evicted; otherwise an image
+     *             larger than maxBytes would be evicted and re-rendered on every get.  May be null.
+     */
+    private void trimToSize(K keep) {
+        final Iterator<Map.Entry<K, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            final Map.Entry<K, Entry> e = it.next();
+            final Entry entry = e.getValue();
+            if (entry.bitmap == null) {
+                if (!entry.pending) {
+                    it.remove();
+                }
+            } else if (cachedBytes > maxBytes && (keep == null || !keep.equals(e.getKey()))) {
+                cachedBytes -= BitmapPool.sizeOf(entry.bitmap);
+                it.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.androidplot;
+
+/**
+ * The result of a {@link Plot}'s preparation stage: everything needed to draw a single frame
+ * that is expensive to compute from live series data, such as snapshots of that data, bounds
+ * and pixel coordinates.  Implementations must be effectively immutable once prepared, since
+ * a frame is prepared on one thread and drawn on another.
+ * @since 0.9.8
+ */
+public interface PreparedFrame {
+}
@@ -20,21 +20,238 @@ import com.androidplot.ui.Formatter;
 import com.androidplot.ui.SeriesAndFormatter;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 
 /**
  * Manages a list of {@link Series} and their associated {@link Formatter} in the context of a {@link Plot}.
+ *
+ * In addition to the list itself, the registry maintains an identity index of series to their
+ * pairs and a partition of pairs per renderer class, so that lookups by series or by renderer
+ * don't have to scan every registered series.  The index is updated incrementally by
+ * {@link #add(SeriesAndFormatter)} and {@link #remove(Object)} and rebuilt on first use after any
+ * other modification.
  * @since 0.9.7
  */
 public class SeriesRegistry<SeriesType extends Series, FormatterType extends Formatter>
         extends ArrayList<SeriesAndFormatter<SeriesType, FormatterType>> {
 
-    public List<SeriesType> getSeriesList() {
-        List<SeriesType> result = new ArrayList<>();
-        for(SeriesAndFormatter<SeriesType, FormatterType> sfPair : this) {
-            result.add(sfPair.getSeries());
+    private static class Partition<SeriesType extends Series, FormatterType extends Formatter> {
+        final List<SeriesAndFormatter<SeriesType, FormatterType>> pairs = new ArrayList<>();
+        final List<SeriesType> series = new ArrayList<>();
+        final List<SeriesAndFormatter<SeriesType, FormatterType>> pairsView =
+                Collections.unmodifiableList(pairs);
+        final List<SeriesType> seriesView = Collections.unmodifiableList(series);
+
+        void add(SeriesAndFormatter<SeriesType, FormatterType> pair) {
+            pairs.add(pair);
+            series.add(pair.getSeries());
+        }
+
+        void remove(SeriesAndFormatter<SeriesType, FormatterType> pair) {
+            final int i = pairs.indexOf(pair);
+            if(i >= 0) {
+                pairs.remove(i);
+                series.remove(i);
+            }
+        }
+
+        void clear() {
+            pairs.clear();
+            series.clear();
+        }
+    }
+
+    // guarded by this; valid while indexModCount == modCount:
+    private final Partition<SeriesType, FormatterType> all = new Partition<>();
+    private final IdentityHashMap<Series, List<SeriesAndFormatter<SeriesType, FormatterType>>> bySeries =
+            new IdentityHashMap<>();
+    private final HashMap<Class, Partition<SeriesType, FormatterType>> byRenderer = new HashMap<>();
+    private int indexModCount;
+
+    /**
+     * @return A new list containing the series of every registered pair, in registration order.
+     */
+    public synchronized List<SeriesType> getSeriesList() {
+        return new ArrayList<>(getSeriesView());
+    }
+
+    /**
+     * Like {@link #getSeriesList()} but without copying.
+     * @return An unmodifiable view of the series of every registered pair, in registration order.
+     * The view reflects subsequent changes to this registry, so it must not be iterated while the
+     * registry is being modified, eg. while removing series.
+     * @since 0.9.8
+     */
+    public synchronized List<SeriesType> getSeriesView() {
+        validateIndex();
+        return all.seriesView;
+    }
+
+    /**
+     * @param rendererClass
+     * @return A new list containing the pairs that render with rendererClass, in registration order.
+     * @since 0.9.8
+     */
+    public synchronized List<SeriesAndFormatter<SeriesType, FormatterType>> getSeriesAndFormatterList(
+            Class rendererClass) {
+        return new ArrayList<>(getSeriesAndFormatterView(rendererClass));
+    }
+
+    /**
+     * Like {@link #getSeriesAndFormatterList(Class)} but without copying.
+     * @param rendererClass
+     * @return An unmodifiable view of the pairs that render with rendererClass, in registration
+     * order.  The view reflects subsequent changes to this registry, so it must not be iterated
+     * while the registry is being modified.
+     * @since 0.9.8
+     */
+    public synchronized List<SeriesAndFormatter<SeriesType, FormatterType>> getSeriesAndFormatterView(
+            Class rendererClass) {
+        validateIndex();
+        return getPartition(rendererClass).pairsView;
+    }
+
+    /**
+     * @param rendererClass
+     * @return A new list containing the series that render with rendererClass, in registration order.
+     * @since 0.9.8
+     */
+    public synchronized List<SeriesType> getSeriesList(Class rendererClass) {
+        return new ArrayList<>(getSeriesView(rendererClass));
+    }
+
+    /**
+     * Like {@link #getSeriesList(Class)} but without copying.
+     * @param rendererClass
+     * @return An unmodifiable view of the series that render with rendererClass, in registration
+     * order.  The view reflects subsequent changes to this registry, so it must not be iterated
+     * while the registry is being modified.
+     * @since 0.9.8
+     */
+    public synchronized List<SeriesType> getSeriesView(Class rendererClass) {
+        validateIndex();
+        return getPartition(rendererClass).seriesView;
+    }
+
+    /**
+     * @param series
+     * @return Every pair referencing series; empty if series is not registered.
+     * @since 0.9.8
+     */
+    public synchronized List<SeriesAndFormatter<SeriesType, FormatterType>> get(Series series) {
+        validateIndex();
+        final List<SeriesAndFormatter<SeriesType, FormatterType>> pairs = bySeries.get(series);
+        return pairs != null ? Collections.unmodifiableList(pairs) :
+                Collections.<SeriesAndFormatter<SeriesType, FormatterType>>emptyList();
+    }
+
+    /**
+     * @param series
+     * @param rendererClass
+     * @return The pair referencing series that renders with rendererClass or null if there is none.
+     * @since 0.9.8
+     */
+    public synchronized SeriesAndFormatter<SeriesType, FormatterType> get(Series series,
+                                                                         Class rendererClass) {
+        validateIndex();
+        final List<SeriesAndFormatter<SeriesType, FormatterType>> pairs = bySeries.get(series);
+        if(pairs != null) {
+            for(SeriesAndFormatter<SeriesType, FormatterType> pair : pairs) {
+                if(pair.getFormatter().getRendererClass() == rendererClass) {
+                    return pair;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public synchronized boolean add(SeriesAndFormatter<SeriesType, FormatterType> pair) {
+        final boolean indexed = indexModCount == modCount;
+        super.add(pair);
+        if(indexed) {
+            index(pair);
+            indexModCount = modCount;
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized boolean remove(Object o) {
+        final boolean indexed = indexModCount == modCount;
+        if(!super.remove(o)) {
+            return false;
+        }
+        if(indexed) {
+            @SuppressWarnings("unchecked")
+            final SeriesAndFormatter<SeriesType, FormatterType> pair =
+                    (SeriesAndFormatter<SeriesType, FormatterType>) o;
+            all.remove(pair);
+            final List<SeriesAndFormatter<SeriesType, FormatterType>> pairs =
+                    bySeries.get(pair.getSeries());
+            pairs.remove(pair);
+            if(pairs.isEmpty()) {
+                bySeries.remove(pair.getSeries());
+            }
+            byRenderer.get(pair.getFormatter().getRendererClass()).remove(pair);
+            indexModCount = modCount;
+        }
+        return true;
+    }
+
+    @Override
+    public SeriesAndFormatter<SeriesType, FormatterType> set(int index,
+            SeriesAndFormatter<SeriesType, FormatterType> element) {
+        // ArrayList doesn't consider this a structural modification but the index does:
+        modCount++;
+        return super.set(index, element);
+    }
+
+    /**
+     * Structural modification counter of this registry; changes each time a series
+     * is added or removed.  Useful for invalidating state derived from the registry's contents.
+     * @return The current modification count.
+     */
+    public int getModCount() {
+        return modCount;
+    }
+
+    private void validateIndex() {
+        if(indexModCount == modCount) {
+            return;
+        }
+        // partitions are emptied rather than discarded so that views already handed out stay live:
+        all.clear();
+        bySeries.clear();
+        for(Partition<SeriesType, FormatterType> partition : byRenderer.values()) {
+            partition.clear();
+        }
+        for(int i = 0, size = size(); i < size; i++) {
+            index(get(i));
+        }
+        indexModCount = modCount;
+    }
+
+    private void index(SeriesAndFormatter<SeriesType, FormatterType> pair) {
+        all.add(pair);
+        List<SeriesAndFormatter<SeriesType, FormatterType>> pairs = bySeries.get(pair.getSeries());
+        if(pairs == null) {
+            pairs = new ArrayList<>(1);
+            bySeries.put(pair.getSeries(), pairs);
+        }
+        pairs.add(pair);
+        getPartition(pair.getFormatter().getRendererClass()).add(pair);
+    }
+
+    private Partition<SeriesType, FormatterType> getPartition(Class rendererClass) {
+        Partition<SeriesType, FormatterType> partition = byRenderer.get(rendererClass);
+        if(partition == null) {
+            partition = new Partition<>();
+            byRenderer.put(rendererClass, partition);
         }
-        return result;
+        return partition;
     }
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+
+import com.androidplot.util.BitmapPool;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Triple buffered, lock-free handoff of rendered frames from a single render thread to a single
+ * display (UI) thread.  The render thread and the display thread each own one buffer exclusively
+ * and exchange it with a third, shared buffer via an atomic swap, so the display thread always
+ * draws the most recently completed frame without blocking and the render thread never waits
+ * on the display thread.
+ *
+ * Releasing buffers is split the same way: the display thread frees the buffers it can reach
+ * via {@link #release()}, while the render thread frees its own via {@link #releaseBackBuffer()}
+ * once it is not mid-frame, so neither thread ever waits on the other.
+ * @since 0.9.8
+ */
+class SwapChain {
+
+    private static class Frame {
+        private Bitmap bitmap;
+        private Canvas canvas;
+
+        // true if this frame has been rendered but not yet acquired by the display thread:
+        private volatile boolean fresh;
+    }
+
+    private final AtomicReference<Frame> shared = new AtomicReference<>(new Frame());
+
+    // owned by the render thread:
+    private Frame back = new Frame();
+
+    // owned by the display thread:
+    private Frame front = new Frame();
+
+    private volatile int width;
+    private volatile int height;
+    private volatile Bitmap.Config config;
+    private volatile BitmapPool bitmapPool;
+
+    // bytes of bitmap memory currently held by the chain's buffers:
+    private final AtomicLong allocatedBytes = new AtomicLong();
+
+    SwapChain(Bitmap.Config config) {
+        this.config = config;
+    }
+
+    /**
+     * Sets the dimensions of frames rendered from now on.  May be invoked from any thread.
+     * @param width
+     * @param height
+     */
+    void resize(int width, int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Sets the config of the Bitmaps used for frames rendered from now on.
+     * May be invoked from any thread.
+     * @param config
+     */
+    void setConfig(Bitmap.Config config) {
+        this.config = config;
+    }
+
+    Bitmap.Config getConfig() {
+        return config;
+    }
+
+    /**
+     * Sets the pool buffers are taken from and returned to.  If null, buffers are allocated
+     * directly and simply dropped when no longer needed.
+     * @param bitmapPool
+     */
+    void setBitmapPool(BitmapPool bitmapPool) {
+        this.bitmapPool = bitmapPool;
+    }
+
+    /**
+     * @return Bytes of bitmap memory currently held by this chain.
+     */
+    long getAllocatedBytes() {
+        return allocatedBytes.get();
+    }
+
+    /**
+     * Frees the displayed and shared buffers.  They are recreated as needed by subsequent frames,
+     * so the display thread has no frame to draw until the next frame has been rendered.
+     * Must only be invoked by the display thread.
+     */
+    void release() {
+        // once swapped out, the shared frame is not reachable by the render thread:
+        discard(shared.getAndSet(new Frame()));
+        discard(front);
+        front = new Frame();
+    }
+
+    /**
+     * Frees the render thread's buffer.  Must only be invoked by the render thread between
+     * frames, or while there is no render thread.
+     */
+    void releaseBackBuffer() {
+        discard(back);
+        back = new Frame();
+    }
+
+    private Bitmap obtain(int w, int h, Bitmap.Config c) {
+        final BitmapPool pool = bitmapPool;
+        final Bitmap bitmap = pool != null ? pool.acquire(w, h, c) : Bitmap.createBitmap(w, h, c);
+        allocatedBytes.addAndGet(BitmapPool.sizeOf(bitmap));
+        return bitmap;
+    }
+
+    private void discard(Frame frame) {
+        if (frame.bitmap == null) {
+            return;
+        }
+        allocatedBytes.addAndGet(-BitmapPool.sizeOf(frame.bitmap));
+        final BitmapPool pool = bitmapPool;
+        if (pool != null) {
+            pool.release(frame.bitmap);
+        }
+        frame.bitmap = null;
+        frame.canvas = null;
+    }
+
+    /**
+     * Must only be invoked by the render thread.
+     * @return A Canvas to render the next frame onto, or null if the chain has no valid size.
+     */
+    Canvas beginFrame() {
+        final int w = width;
+        final int h = height;
+        final Bitmap.Config c = config;
+        if (w <= 0 || h <= 0) {
+            return null;
+        }
+        if (back.bitmap == null || back.bitmap.getWidth() != w || back.bitmap.getHeight() != h
+                || back.bitmap.getConfig() != c) {
+            discard(back);
+            back.bitmap = obtain(w, h, c);
+            back.canvas = new Canvas(back.bitmap);
+        }
+        return back.canvas;
+    }
+
+    /**
+     * Must only be invoked by the render thread, after rendering onto the Canvas returned by
+     * {@link #beginFrame()}.  Publishes the frame as the latest completed frame.
+     */
+    void endFrame() {
+        back.fresh = true;
+        back = shared.getAndSet(back);
+    }
+
+    /**
+     * Must only be invoked by the display thread.
+     * @return The most recently completed frame, or null if no frame has been completed.
+     * The returned Bitmap remains valid until the next invocation of this method.
+     */
+    Bitmap getLatestFrame() {
+        if (shared.get().fresh) {
+            front = shared.getAndSet(front);
+            front.fresh = false;
+        }
+        return front.bitmap;
+    }
+}
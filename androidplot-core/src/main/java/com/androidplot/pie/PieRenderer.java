@@ -67,7 +67,7 @@ public class PieRenderer extends SeriesRenderer<PieChart, Segment, SegmentFormat
         RectF rec = new RectF(origin.x - radius, origin.y - radius, origin.x + radius, origin.y + radius);
         
         int i = 0;
-        for (SeriesAndFormatter<Segment, ? extends SegmentFormatter> sfPair : getSeriesAndFormatterList()) {
+        for (SeriesAndFormatter<Segment, ? extends SegmentFormatter> sfPair : getSeriesAndFormatterView()) {
             float lastOffset = offset;
             float sweep = (float) (scale * (values[i]) * 360);
             offset += sweep;
@@ -153,6 +153,7 @@ public class DynamicTableModel extends TableModel {
 
     public void setNumRows(int numRows) {
         this.numRows = numRows;
+        invalidateCells();
     }
 
     public int getNumColumns() {
@@ -161,6 +162,7 @@ public class DynamicTableModel extends TableModel {
 
     public void setNumColumns(int numColumns) {
         this.numColumns = numColumns;
+        invalidateCells();
     }
 
 /*    public void setCellWidth(Float cellWidth) {
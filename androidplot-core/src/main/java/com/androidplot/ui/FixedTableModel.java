@@ -40,6 +40,7 @@ public class FixedTableModel extends TableModel {
 
     public void setCellWidth(float cellWidth) {
         this.cellWidth = cellWidth;
+        invalidateCells();
     }
 
     public float getCellHeight() {
@@ -48,6 +49,7 @@ public class FixedTableModel extends TableModel {
 
     public void setCellHeight(float cellHeight) {
         this.cellHeight = cellHeight;
+        invalidateCells();
     }
 
     private class FixedTableModelIterator implements Iterator<RectF> {
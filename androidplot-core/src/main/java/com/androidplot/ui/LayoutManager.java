@@ -22,9 +22,23 @@ import android.view.View;
 import com.androidplot.exception.PlotRenderException;
 import com.androidplot.ui.widget.Widget;
 import com.androidplot.util.DisplayDimensions;
-import com.androidplot.util.ZLinkedList;
-
-public class LayoutManager extends ZLinkedList<Widget>
+import com.androidplot.util.ZOrderList;
+
+/**
+ * Lays out and draws a plot's widgets in z-order, bottom first.
+ * <p>
+ * Since 0.9.8 LayoutManager is a {@link ZOrderList} rather than a
+ * {@link com.androidplot.util.ZLinkedList}.  This is not source compatible with earlier
+ * versions in two ways:
+ * <ul>
+ * <li>It is no longer a {@link java.util.LinkedList} or {@link java.util.Deque}, so methods such
+ * as getFirst(), addLast() and poll() are gone.  Use {@link #get(int)}, {@link #addToTop(Object)},
+ * {@link #addToBottom(Object)} and {@link #remove(Object)} instead.</li>
+ * <li>Each widget can only be present once.  Adding a widget that is already present moves it to
+ * the requested position instead of adding a duplicate.</li>
+ * </ul>
+ */
+public class LayoutManager extends ZOrderList<Widget>
         implements View.OnTouchListener, Resizable {
     private boolean drawAnchorsEnabled = false;
     private Paint anchorPaint;
@@ -84,16 +98,14 @@ public class LayoutManager extends ZLinkedList<Widget>
         if (isDrawPaddingEnabled()) {
             drawSpacing(canvas, displayDims.marginatedRect, displayDims.paddedRect, paddingPaint);
         }
-        for (Widget widget : elements()) {
+        // indexed to avoid allocating an iterator every frame:
+        for (int i = 0, size = size(); i < size; i++) {
+            final Widget widget = get(i);
             //int canvasState = canvas.save(Canvas.ALL_SAVE_FLAG); // preserve clipping etc
             try {
                 canvas.save(Canvas.ALL_SAVE_FLAG);
-                PositionMetrics metrics = widget.getPositionMetrics();
-                float elementWidth = widget.getWidthPix(displayDims.paddedRect.width());
-                float elementHeight = widget.getHeightPix(displayDims.paddedRect.height());
-                PointF coords = widget.getElementCoordinates(elementHeight,
-                        elementWidth, displayDims.paddedRect, metrics);
-
+                // layout is only recalculated when something that factors into it has changed:
+                widget.validateLayout();
                 DisplayDimensions dims = widget.getWidgetDimensions();
 
                 if (drawOutlineShadowsEnabled) {
@@ -117,10 +129,7 @@ public class LayoutManager extends ZLinkedList<Widget>
                 }
 
                 if (drawAnchorsEnabled) {
-                    PointF anchorCoords =
-                            Widget.getAnchorCoordinates(coords.x, coords.y, elementWidth,
-                                    elementHeight, metrics.getAnchor());
-                    drawAnchor(canvas, anchorCoords);
+                    drawAnchor(canvas, widget.getAnchorCoordinates());
                 }
 
 
@@ -18,13 +18,18 @@ package com.androidplot.ui;
 
 import com.androidplot.Plot;
 import com.androidplot.Series;
+import com.androidplot.SeriesRegistry;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 
 /**
  * A stack of series to be rendered.  The stack order is immutable  but individual elements may be
  * manipulated via the public methods of {@link RenderStack.StackElement}.
+ *
+ * The stack is persistent; its elements are only restructured when the series being synced
+ * change.  Otherwise syncing just re-enables every element.
  */
 public class RenderStack<SeriesType extends Series, FormatterType extends Formatter> {
 
@@ -32,6 +37,14 @@ public class RenderStack<SeriesType extends Series, FormatterType extends Format
 
     private final ArrayList<StackElement<SeriesType, FormatterType>> elements;
 
+    // elements grouped by renderer class, for disable(...):
+    private final HashMap<Class, ArrayList<StackElement<SeriesType, FormatterType>>> byRenderer =
+            new HashMap<>();
+
+    // modCount of the plot's registry as of the last sync() or NOT_SYNCED:
+    private int syncedModCount = NOT_SYNCED;
+    private static final int NOT_SYNCED = -1;
+
     public ArrayList<StackElement<SeriesType, FormatterType>> getElements() {
         return elements;
     }
@@ -79,14 +92,79 @@ public class RenderStack<SeriesType extends Series, FormatterType extends Format
      * Syncs the stack structure with plot's current state.  Should be called before
      * rendering series data to an XYGraphWidget.
      */
+    @SuppressWarnings("unchecked")
     public void sync() {
-        /**
-         * TODO: rendering performance *might* be improved by reusing StackElement instances but I'm skeptical...
-         */
-        getElements().clear();
-        List<SeriesAndFormatter<SeriesType, FormatterType>> pairList = plot.getSeriesRegistry();
-        for(SeriesAndFormatter<SeriesType, FormatterType> thisPair: pairList) {
-            getElements().add(new StackElement<>(thisPair));
+        final SeriesRegistry<SeriesType, FormatterType> registry = plot.getSeriesRegistry();
+        final int modCount = registry.getModCount();
+        if(modCount == syncedModCount) {
+            enableAll();
+        } else {
+            sync(registry);
+            syncedModCount = modCount;
+        }
+    }
+
+    /**
+     * Syncs the stack structure with pairList, typically a snapshot of the plot's series
+     * taken by a preparation stage.
+     * @param pairList
+     * @since 0.9.8
+     */
+    public void sync(List<SeriesAndFormatter<SeriesType, FormatterType>> pairList) {
+        syncedModCount = NOT_SYNCED;
+        if(!isSyncedWith(pairList)) {
+            restructure(pairList);
+        }
+        enableAll();
+    }
+
+    private boolean isSyncedWith(List<SeriesAndFormatter<SeriesType, FormatterType>> pairList) {
+        final int size = pairList.size();
+        if(size != elements.size()) {
+            return false;
+        }
+        for(int i = 0; i < size; i++) {
+            if(elements.get(i).get() != pairList.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Points the stack at pairList, reusing existing StackElement instances.
+     */
+    private void restructure(List<SeriesAndFormatter<SeriesType, FormatterType>> pairList) {
+        final int size = pairList.size();
+        for(int i = 0; i < size; i++) {
+            if(i < elements.size()) {
+                elements.get(i).set(pairList.get(i));
+            } else {
+                elements.add(new StackElement<>(pairList.get(i)));
+            }
+        }
+        while(elements.size() > size) {
+            elements.remove(elements.size() - 1);
+        }
+
+        for(ArrayList<StackElement<SeriesType, FormatterType>> group : byRenderer.values()) {
+            group.clear();
+        }
+        for(int i = 0; i < size; i++) {
+            final StackElement<SeriesType, FormatterType> element = elements.get(i);
+            final Class rendererClass = element.get().getFormatter().getRendererClass();
+            ArrayList<StackElement<SeriesType, FormatterType>> group = byRenderer.get(rendererClass);
+            if(group == null) {
+                group = new ArrayList<>();
+                byRenderer.put(rendererClass, group);
+            }
+            group.add(element);
+        }
+    }
+
+    private void enableAll() {
+        for(int i = 0, size = elements.size(); i < size; i++) {
+            elements.get(i).setEnabled(true);
         }
     }
 
@@ -96,9 +174,10 @@ public class RenderStack<SeriesType extends Series, FormatterType extends Format
      * @param rendererClass
      */
     public void disable(Class<? extends SeriesRenderer> rendererClass) {
-        for(RenderStack.StackElement element : getElements()) {
-            if(element.get().getFormatter().getRendererClass() == rendererClass) {
-                element.setEnabled(false);
+        final ArrayList<StackElement<SeriesType, FormatterType>> group = byRenderer.get(rendererClass);
+        if(group != null) {
+            for(int i = 0, size = group.size(); i < size; i++) {
+                group.get(i).setEnabled(false);
             }
         }
     }
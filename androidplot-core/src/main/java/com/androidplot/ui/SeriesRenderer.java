@@ -23,7 +23,6 @@ import com.androidplot.Series;
 import com.androidplot.exception.PlotRenderException;
 import com.androidplot.Plot;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public abstract class SeriesRenderer
@@ -91,35 +90,46 @@ public abstract class SeriesRenderer
 
     /**
      *
-     * @return A List of all {@link SeriesAndFormatter} instances currently associated
+     * @return A new List of all {@link SeriesAndFormatter} instances currently associated
      * with this Renderer.
      */
+    @SuppressWarnings("unchecked")
     public List<SeriesAndFormatter<SeriesType, ? extends SeriesFormatterType>> getSeriesAndFormatterList() {
-        List<SeriesAndFormatter<SeriesType, ? extends SeriesFormatterType>> results = new ArrayList<>();
-        ArrayList<SeriesAndFormatter> sfList = getPlot().getSeriesRegistry();
+        return getPlot().getSeriesRegistry().getSeriesAndFormatterList(getClass());
+    }
 
-        for(SeriesAndFormatter<SeriesType, ? extends SeriesFormatterType> thisPair : sfList) {
-            if(thisPair.rendersWith(this)) {
-                results.add(thisPair);
-            }
-        }
-        return results;
+    /**
+     * Like {@link #getSeriesAndFormatterList()} but without copying; intended for iterating
+     * while rendering.
+     * @return An unmodifiable view, maintained by the plot's {@link com.androidplot.SeriesRegistry},
+     * of all {@link SeriesAndFormatter} instances associated with this Renderer.  Must not be
+     * iterated while series are being added to or removed from the plot.
+     * @since 0.9.8
+     */
+    @SuppressWarnings("unchecked")
+    public List<SeriesAndFormatter<SeriesType, ? extends SeriesFormatterType>> getSeriesAndFormatterView() {
+        return getPlot().getSeriesRegistry().getSeriesAndFormatterView(getClass());
     }
 
     /**
      *
-     * @return
+     * @return A new List of all series currently associated with this Renderer.
      * @since 0.9.7
      */
+    @SuppressWarnings("unchecked")
     public List<SeriesType> getSeriesList() {
-        List<SeriesType> results = new ArrayList<>();
-        ArrayList<SeriesAndFormatter> sfList = getPlot().getSeriesRegistry();
+        return getPlot().getSeriesRegistry().getSeriesList(getClass());
+    }
 
-        for(SeriesAndFormatter<SeriesType, ? extends SeriesFormatterType> thisPair : sfList) {
-            if(thisPair.rendersWith(this)) {
-                results.add(thisPair.getSeries());
-            }
-        }
-        return results;
+    /**
+     * Like {@link #getSeriesList()} but without copying.
+     * @return An unmodifiable view, maintained by the plot's {@link com.androidplot.SeriesRegistry},
+     * of all series associated with this Renderer.  Must not be iterated while series are being
+     * added to or removed from the plot.
+     * @since 0.9.8
+     */
+    @SuppressWarnings("unchecked")
+    public List<SeriesType> getSeriesView() {
+        return getPlot().getSeriesRegistry().getSeriesView(getClass());
     }
 }
@@ -17,18 +17,59 @@
 package com.androidplot.ui;
 
 import android.graphics.RectF;
+import com.androidplot.util.RectFUtils;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 
 public abstract class TableModel {
     private TableOrder order;
 
+    // cell geometry for the most recent (tableRect, totalElements):
+    private RectF[] cells;
+    private final RectF cellsTableRect = new RectF();
+    private int cellsTotalElements;
+
     protected TableModel(TableOrder order) {
         setOrder(order);
     }
 
     public abstract Iterator<RectF> getIterator(RectF tableRect, int totalElements);
 
+    /**
+     * Indexed alternative to {@link #getIterator(RectF, int)}.  The cells are only calculated
+     * when tableRect, totalElements or a property of this model has changed since the previous
+     * call, so this is cheap enough to call on every draw.  The returned array and its RectFs
+     * are shared and must not be modified.
+     * @param tableRect
+     * @param totalElements
+     * @return The rect of each cell in iteration order; may contain fewer than totalElements
+     * cells if the table runs out of room.
+     * @since 0.9.8
+     */
+    public synchronized RectF[] getCells(RectF tableRect, int totalElements) {
+        if(cells == null || totalElements != cellsTotalElements || !RectFUtils.areIdentical(cellsTableRect, tableRect)) {
+            final ArrayList<RectF> list = new ArrayList<>(totalElements);
+            final Iterator<RectF> it = getIterator(tableRect, totalElements);
+            // some iterators reuse the RectF they return so each cell is copied:
+            while(list.size() < totalElements && it.hasNext()) {
+                list.add(new RectF(it.next()));
+            }
+            cells = list.toArray(new RectF[list.size()]);
+            cellsTableRect.set(tableRect);
+            cellsTotalElements = totalElements;
+        }
+        return cells;
+    }
+
+    /**
+     * Discards cached cell geometry.  Must be called by extending classes whenever a property
+     * that factors into cell geometry changes.
+     */
+    protected synchronized void invalidateCells() {
+        cells = null;
+    }
+
     //public abstract RectF getCellRect(RectF tableRect, int numElements);
 
     public TableOrder getOrder() {
@@ -37,6 +78,7 @@ public abstract class TableModel {
 
     public void setOrder(TableOrder order) {
         this.order = order;
+        invalidateCells();
     }
 
     public enum Axis {
@@ -40,6 +40,10 @@ public abstract class Widget implements BoxModelable, Resizable {
     private boolean isVisible = true;
     private PositionMetrics positionMetrics;
     private LayoutManager layoutManager;
+    private final PointF anchorCoordinates = new PointF();
+
+    // true if a size or position metric has changed since the last layout:
+    private volatile boolean layoutInvalid;
 
     public Widget(LayoutManager layoutManager, SizeMetric heightMetric, SizeMetric widthMetric) {
         this(layoutManager, new Size(heightMetric, widthMetric));
@@ -62,6 +66,7 @@ public abstract class Widget implements BoxModelable, Resizable {
 
     public void setAnchor(AnchorPosition anchor) {
         getPositionMetrics().setAnchor(anchor);
+        layoutInvalid = true;
     }
 
 
@@ -119,6 +124,7 @@ public abstract class Widget implements BoxModelable, Resizable {
 
     public void setSize(Size size) {
         this.size = size;
+        layoutInvalid = true;
     }
 
     public Size getSize() {
@@ -128,18 +134,22 @@ public abstract class Widget implements BoxModelable, Resizable {
 
     public void setWidth(float width) {
         size.getWidth().setValue(width);
+        layoutInvalid = true;
     }
 
     public void setWidth(float width, SizeLayoutType layoutType) {
         size.getWidth().set(width, layoutType);
+        layoutInvalid = true;
     }
 
     public void setHeight(float height) {
         size.getHeight().setValue(height);
+        layoutInvalid = true;
     }
 
     public void setHeight(float height, SizeLayoutType layoutType) {
         size.getHeight().set(height, layoutType);
+        layoutInvalid = true;
     }
 
     public SizeMetric getWidthMetric() {
@@ -169,16 +179,19 @@ public abstract class Widget implements BoxModelable, Resizable {
     @Override
     public void setMarginRight(float marginRight) {
         boxModel.setMarginRight(marginRight);
+        layoutInvalid = true;
     }
 
     @Override
     public void setMargins(float left, float top, float right, float bottom) {
         boxModel.setMargins(left, top, right, bottom);
+        layoutInvalid = true;
     }
 
     @Override
     public void setPadding(float left, float top, float right, float bottom) {
         boxModel.setPadding(left, top, right, bottom);
+        layoutInvalid = true;
     }
 
     @Override
@@ -189,6 +202,7 @@ public abstract class Widget implements BoxModelable, Resizable {
     @Override
     public void setMarginTop(float marginTop) {
         boxModel.setMarginTop(marginTop);
+        layoutInvalid = true;
     }
 
     @Override
@@ -204,6 +218,7 @@ public abstract class Widget implements BoxModelable, Resizable {
     @Override
     public void setPaddingLeft(float paddingLeft) {
         boxModel.setPaddingLeft(paddingLeft);
+        layoutInvalid = true;
     }
 
     @Override
@@ -214,6 +229,7 @@ public abstract class Widget implements BoxModelable, Resizable {
     @Override
     public void setPaddingTop(float paddingTop) {
         boxModel.setPaddingTop(paddingTop);
+        layoutInvalid = true;
     }
 
     @Override
@@ -224,6 +240,7 @@ public abstract class Widget implements BoxModelable, Resizable {
     @Override
     public void setPaddingRight(float paddingRight) {
         boxModel.setPaddingRight(paddingRight);
+        layoutInvalid = true;
     }
 
     @Override
@@ -234,12 +251,14 @@ public abstract class Widget implements BoxModelable, Resizable {
     @Override
     public void setPaddingBottom(float paddingBottom) {
         boxModel.setPaddingBottom(paddingBottom);
+        layoutInvalid = true;
     }
 
     @Override
     @SuppressWarnings("SameParameterValue")
     public void setMarginBottom(float marginBottom) {
         boxModel.setMarginBottom(marginBottom);
+        layoutInvalid = true;
     }
 
     @Override
@@ -250,6 +269,7 @@ public abstract class Widget implements BoxModelable, Resizable {
     @Override
     public void setMarginLeft(float marginLeft) {
         boxModel.setMarginLeft(marginLeft);
+        layoutInvalid = true;
     }
 
     @Override
@@ -269,6 +289,7 @@ public abstract class Widget implements BoxModelable, Resizable {
             // before the widget is fully configured.
             return;
         }
+        layoutInvalid = false;
         float elementWidth = getWidthPix(plotDimensions.paddedRect.width());
         float elementHeight = getHeightPix(plotDimensions.paddedRect.height());
         PointF coords = getElementCoordinates(elementHeight,
@@ -280,6 +301,27 @@ public abstract class Widget implements BoxModelable, Resizable {
         RectF paddedWidgetRect = getPaddedRect(marginatedWidgetRect);
         widgetDimensions = new DisplayDimensions(widgetRect,
                 marginatedWidgetRect, paddedWidgetRect);
+        final PointF anchorOffset = getAnchorOffset(elementWidth, elementHeight,
+                positionMetrics.getAnchor());
+        anchorCoordinates.set(coords.x + anchorOffset.x, coords.y + anchorOffset.y);
+    }
+
+    /**
+     * Refreshes this Widget's layout if any of its size, position or box model
+     * settings have changed since it was last laid out.  Cheap enough to be called
+     * every frame.
+     */
+    public void validateLayout() {
+        if(layoutInvalid) {
+            refreshLayout();
+        }
+    }
+
+    /**
+     * @return The coordinates of this Widget's anchor as of the last layout.
+     */
+    public PointF getAnchorCoordinates() {
+        return anchorCoordinates;
     }
 
     @Override
@@ -413,5 +455,6 @@ public abstract class Widget implements BoxModelable, Resizable {
 
     public void setPositionMetrics(PositionMetrics positionMetrics) {
         this.positionMetrics = positionMetrics;
+        layoutInvalid = true;
     }
 }
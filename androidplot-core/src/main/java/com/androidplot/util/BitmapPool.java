@@ -0,0 +1,173 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.androidplot.util;
+
+import android.graphics.Bitmap;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+
+/**
+ * A thread safe pool of mutable bitmaps keyed by size and config, bounded by the total number
+ * of bytes it retains.  Bitmaps released to a full pool are recycled.
+ * @since 0.9.8
+ */
+public class BitmapPool {
+
+    private static class Key {
+        final int width;
+        final int height;
+        final Bitmap.Config config;
+
+        Key(int width, int height, Bitmap.Config config) {
+            this.width = width;
+            this.height = height;
+            this.config = config;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return width == key.width && height == key.height && config == key.config;
+        }
+
+        @Override
+        public int hashCode() {
+            return (31 * width + height) * 31 + (config != null ? config.hashCode() : 0);
+        }
+    }
+
+    private final HashMap<Key, LinkedList<Bitmap>> pool = new HashMap<>();
+    private long maxBytes;
+    private long pooledBytes;
+
+    /**
+     *
+     * @param maxBytes Maximum number of bytes of bitmap memory retained by the pool.
+     */
+    public BitmapPool(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the number of bytes used by bitmap's pixels.  Bitmap.getByteCount() is not
+     * available on all supported platforms.
+     * @param bitmap
+     * @return
+     */
+    public static long sizeOf(Bitmap bitmap) {
+        return (long) bitmap.getRowBytes() * bitmap.getHeight();
+    }
+
+    /**
+     * Retrieves a bitmap from the pool, creating one if none is available.  The contents of
+     * pooled bitmaps are undefined; callers should clear them as needed.
+     * @param width
+     * @param height
+     * @param config
+     * @return A mutable bitmap of the requested size and config.
+     */
+    public Bitmap acquire(int width, int height, Bitmap.Config config) {
+        synchronized (this) {
+            final LinkedList<Bitmap> bitmaps = pool.get(new Key(width, height, config));
+            if (bitmaps != null && !bitmaps.isEmpty()) {
+                final Bitmap bitmap = bitmaps.removeFirst();
+                pooledBytes -= sizeOf(bitmap);
+                return bitmap;
+            }
+        }
+        // allocate outside of the lock:
+        return Bitmap.createBitmap(width, height, config);
+    }
+
+    /**
+     * Returns a bitmap to the pool.  The caller must not use bitmap afterwards.
+     * @param bitmap May be null, in which case nothing happens.
+     */
+    public void release(Bitmap bitmap) {
+        if (bitmap == null || bitmap.isRecycled()) {
+            return;
+        }
+        if (bitmap.isMutable()) {
+            final long size = sizeOf(bitmap);
+            synchronized (this) {
+                if (pooledBytes + size <= maxBytes) {
+                    final Key key = new Key(bitmap.getWidth(), bitmap.getHeight(), bitmap.getConfig());
+                    LinkedList<Bitmap> bitmaps = pool.get(key);
+                    if (bitmaps == null) {
+                        bitmaps = new LinkedList<>();
+                        pool.put(key, bitmaps);
+                    }
+                    bitmaps.add(bitmap);
+                    pooledBytes += size;
+                    return;
+                }
+            }
+        }
+        bitmap.recycle();
+    }
+
+    /**
+     * Recycles pooled bitmaps until no more than maxBytes are retained.
+     * @param maxBytes
+     */
+    public synchronized void trimToSize(long maxBytes) {
+        while (pooledBytes > maxBytes && !pool.isEmpty()) {
+            final Key key = pool.keySet().iterator().next();
+            final LinkedList<Bitmap> bitmaps = pool.get(key);
+            while (!bitmaps.isEmpty() && pooledBytes > maxBytes) {
+                final Bitmap bitmap = bitmaps.removeFirst();
+                pooledBytes -= sizeOf(bitmap);
+                bitmap.recycle();
+            }
+            if (bitmaps.isEmpty()) {
+                pool.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Recycles all pooled bitmaps.
+     */
+    public synchronized void clear() {
+        trimToSize(0);
+    }
+
+    /**
+     * @return Number of bytes of bitmap memory currently retained by the pool.
+     */
+    public synchronized long getPooledBytes() {
+        return pooledBytes;
+    }
+
+    public synchronized long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Sets the maximum number of bytes retained, trimming the pool if necessary.
+     * @param maxBytes
+     */
+    public synchronized void setMaxBytes(long maxBytes) {
+        this.maxBytes = maxBytes;
+        trimToSize(maxBytes);
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.androidplot.util;
+
+import com.androidplot.xy.XYBounds;
+import com.androidplot.xy.XYConstraints;
+import com.androidplot.xy.XYSeries;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Calculates the bounds of large series, or of many series, in parallel.  The combined points
+ * of all series are split into chunks of at least {@link #getSequentialThreshold()} points; large
+ * series are split across several chunks and small series are grouped into a single chunk.
+ * Chunks are scanned concurrently and the partial results merged.  When there are fewer points
+ * than the threshold, everything is scanned on the calling thread.
+ *
+ * Unlike {@link SeriesUtils#minMax(XYConstraints, List)}, the x (or y) extents are not
+ * calculated when both ends of that axis are fixed by the constraints, since they would be
+ * discarded anyway.
+ * @since 0.9.8
+ */
+public class BoundsCalculator {
+
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 8192;
+
+    private static BoundsCalculator sharedInstance;
+
+    private final ExecutorService executor;
+    private final int parallelism;
+    private final int sequentialThreshold;
+
+    /**
+     * A contiguous range of points within a single series.
+     */
+    private static class Span {
+        final XYSeries series;
+        final int from;
+        final int to;
+
+        Span(XYSeries series, int from, int to) {
+            this.series = series;
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    /**
+     * @return An instance shared by all plots, backed by a pool of daemon threads sized to the
+     * number of available processors.
+     */
+    public static synchronized BoundsCalculator getSharedInstance() {
+        if (sharedInstance == null) {
+            final int parallelism = PlotExecutors.getParallelism();
+            sharedInstance = new BoundsCalculator(
+                    PlotExecutors.newFixedThreadPool(parallelism, "Androidplot Bounds Calculator"),
+                    parallelism, DEFAULT_SEQUENTIAL_THRESHOLD);
+        }
+        return sharedInstance;
+    }
+
+    /**
+     *
+     * @param executor Executes chunks other than the first, which always runs on the calling thread.
+     * @param parallelism Maximum number of chunks scanned concurrently.
+     * @param sequentialThreshold Minimum number of points in a chunk.
+     */
+    public BoundsCalculator(ExecutorService executor, int parallelism, int sequentialThreshold) {
+        if (parallelism < 1 || sequentialThreshold < 1) {
+            throw new IllegalArgumentException("parallelism and sequentialThreshold must be positive.");
+        }
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    public int getSequentialThreshold() {
+        return sequentialThreshold;
+    }
+
+    /**
+     * @param constraints May be null.
+     * @param seriesList
+     * @return The bounds of all points in seriesList within constraints.  The x (or y) bounds
+     * are null if constraints fixes both ends of that axis.
+     */
+    public XYBounds calculate(final XYConstraints constraints, List<XYSeries> seriesList) {
+        final boolean includeX = constraints == null ||
+                constraints.getMinX() == null || constraints.getMaxX() == null;
+        final boolean includeY = constraints == null ||
+                constraints.getMinY() == null || constraints.getMaxY() == null;
+        if ((!includeX && !includeY) || seriesList == null || seriesList.isEmpty()) {
+            return new XYBounds();
+        }
+
+        int total = 0;
+        for (XYSeries series : seriesList) {
+            total += series.size();
+        }
+
+        if (total < sequentialThreshold * 2 || parallelism == 1) {
+            final SeriesUtils.Extents extents = new SeriesUtils.Extents();
+            for (XYSeries series : seriesList) {
+                extents.scan(constraints, series, 0, series.size(), includeX, includeY);
+            }
+            return extents.toBounds();
+        }
+
+        final List<List<Span>> chunks = split(seriesList, total);
+        final List<Future<SeriesUtils.Extents>> futures = new ArrayList<>(chunks.size() - 1);
+        try {
+            for (int i = 1; i < chunks.size(); i++) {
+                final List<Span> chunk = chunks.get(i);
+                futures.add(executor.submit(new Callable<SeriesUtils.Extents>() {
+                    @Override
+                    public SeriesUtils.Extents call() throws Exception {
+                        return scan(constraints, chunk, includeX, includeY);
+                    }
+                }));
+            }
+
+            // the calling thread takes the first chunk rather than idling:
+            final SeriesUtils.Extents result = scan(constraints, chunks.get(0), includeX, includeY);
+            for (Future<SeriesUtils.Extents> future : futures) {
+                result.union(future.get());
+            }
+            return result.toBounds();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while calculating bounds.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        } finally {
+            for (Future<SeriesUtils.Extents> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private static SeriesUtils.Extents scan(XYConstraints constraints, List<Span> chunk,
+                                            boolean includeX, boolean includeY) {
+        final SeriesUtils.Extents extents = new SeriesUtils.Extents();
+        for (Span span : chunk) {
+            extents.scan(constraints, span.series, span.from, span.to, includeX, includeY);
+        }
+        return extents;
+    }
+
+    /**
+     * Splits the points of seriesList into at most parallelism chunks of roughly equal size,
+     * none smaller than the sequential threshold.
+     */
+    private List<List<Span>> split(List<XYSeries> seriesList, int total) {
+        final int chunkCount = Math.min(parallelism, total / sequentialThreshold);
+        final int chunkSize = (total + chunkCount - 1) / chunkCount;
+        final List<List<Span>> chunks = new ArrayList<>(chunkCount);
+        List<Span> chunk = new ArrayList<>();
+        int chunkRemaining = chunkSize;
+        for (XYSeries series : seriesList) {
+            final int size = series.size();
+            int from = 0;
+            while (from < size) {
+                final int to = Math.min(size, from + chunkRemaining);
+                chunk.add(new Span(series, from, to));
+                chunkRemaining -= to - from;
+                from = to;
+                if (chunkRemaining == 0) {
+                    chunks.add(chunk);
+                    chunk = new ArrayList<>();
+                    chunkRemaining = chunkSize;
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+}
@@ -28,6 +28,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.HashMap;
+import java.util.Locale;
 
 /**
  * Utility class for "configuring" objects via XML config files.  Supports the following field types:
@@ -161,25 +162,70 @@ public abstract class Configurator {
     }
 
 
-    protected static Method getSetter(Class clazz, final String fieldId) throws NoSuchMethodException {
-        Method[] methods = clazz.getMethods();
+    /**
+     * The public setters and getters of a class, resolved once via reflection.
+     */
+    private static class Accessors {
 
-        String methodName = "set" + fieldId;
-        for (Method method : methods) {
-            if (method.getName().equalsIgnoreCase(methodName)) {
-                return method;
+        // keyed by lower case method name; the first match wins, as with a linear scan:
+        private final HashMap<String, Method> setters = new HashMap<>();
+
+        // public no-arg methods keyed by exact method name; where a covariant override leaves
+        // a bridge method of the same name, the one with the most specific return type wins:
+        private final HashMap<String, Method> getters = new HashMap<>();
+
+        Accessors(Class clazz) {
+            for (Method method : clazz.getMethods()) {
+                final String name = method.getName();
+                if (name.regionMatches(true, 0, "set", 0, 3)) {
+                    final String key = name.toLowerCase(Locale.US);
+                    if (!setters.containsKey(key)) {
+                        setters.put(key, method);
+                    }
+                }
+                if (method.getParameterTypes().length == 0 && name.startsWith("get")) {
+                    final Method existing = getters.get(name);
+                    if (existing == null || existing.getReturnType()
+                            .isAssignableFrom(method.getReturnType())) {
+                        getters.put(name, method);
+                    }
+                }
             }
         }
-        throw new NoSuchMethodException("No such public method (case insensitive): " +
-                methodName + " in " + clazz);
     }
 
-    @SuppressWarnings("unchecked")
+    // guarded by itself:
+    private static final HashMap<Class, Accessors> accessorCache = new HashMap<>();
+
+    private static Accessors getAccessors(Class clazz) {
+        synchronized (accessorCache) {
+            Accessors accessors = accessorCache.get(clazz);
+            if (accessors == null) {
+                accessors = new Accessors(clazz);
+                accessorCache.put(clazz, accessors);
+            }
+            return accessors;
+        }
+    }
+
+    protected static Method getSetter(Class clazz, final String fieldId) throws NoSuchMethodException {
+        String methodName = "set" + fieldId;
+        Method method = getAccessors(clazz).setters.get(methodName.toLowerCase(Locale.US));
+        if (method == null) {
+            throw new NoSuchMethodException("No such public method (case insensitive): " +
+                    methodName + " in " + clazz);
+        }
+        return method;
+    }
+
     protected static Method getGetter(Class clazz, final String fieldId) throws NoSuchMethodException {
-        Log.d(TAG, "Attempting to find getter for " + fieldId + " in class " + clazz.getName());
         String firstLetter = fieldId.substring(0, 1);
         String methodName = "get" + firstLetter.toUpperCase() + fieldId.substring(1, fieldId.length());
-        return clazz.getMethod(methodName);
+        Method method = getAccessors(clazz).getters.get(methodName);
+        if (method == null) {
+            throw new NoSuchMethodException(clazz.getName() + "." + methodName + "()");
+        }
+        return method;
     }
 
     /**
@@ -197,7 +243,6 @@ public abstract class Configurator {
             throw new NullPointerException("Attempt to call getObjectContaining(Object obj, String path) " +
                     "on a null Object instance.  Path was: " + path);
         }
-        Log.d(TAG, "Looking up object containing: " + path);
         int separatorIndex = path.indexOf(".");
 
         // not there yet, descend deeper:
@@ -210,7 +255,6 @@ public abstract class Configurator {
             if(m == null) {
                 throw new NullPointerException("No getter found for field: " + lhs + " within " + obj.getClass());
             }
-            Log.d(TAG, "Invoking " + m.getName() + " on instance of " + obj.getClass().getName());
             Object o = m.invoke(obj);
             // delve into o
             return getObjectContaining(o, rhs);
@@ -320,7 +364,6 @@ public abstract class Configurator {
                 if (paramStrs.length == paramTypes.length) {
 
                     Object[] oa = inflateParams(ctx, paramTypes, paramStrs);
-                    Log.d(TAG, "Invoking " + m.getName() + " with arg(s) " + argArrToString(oa));
                     m.invoke(o, oa);
                 } else {
                     throw new IllegalArgumentException("Error inflating XML: Unexpected number of argments passed to \""
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.androidplot.util;
+
+/**
+ * A source of frame ticks used by {@link FrameScheduler} to pace rendering.
+ * @since 0.9.8
+ */
+public interface FrameClock {
+
+    /**
+     * Invoke callback once, on the next frame tick.  May be called from any thread.
+     * @param callback
+     */
+    void postFrameCallback(Runnable callback);
+}
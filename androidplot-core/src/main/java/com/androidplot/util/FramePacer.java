@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot.util;
+
+/**
+ * Calculates the delay between frames needed to hit a target refresh rate, compensating for
+ * time spent rendering and scheduling latency, and backing off to a lower rate when rendering
+ * takes longer than a frame allows.  The rate recovers gradually once rendering speeds up again.
+ */
+class FramePacer {
+
+    private static final long NANOS_PER_SECOND = 1000000000L;
+
+    // frames are given this much headroom over the measured render time when overrunning:
+    private static final double OVERRUN_HEADROOM = 1.25;
+
+    // fraction by which the period shrinks back towards the target per fast frame:
+    private static final double RECOVERY_RATE = 0.9;
+
+    // never drop below one frame per second:
+    private static final long MAX_PERIOD_NANOS = NANOS_PER_SECOND;
+
+    private long targetPeriodNanos;
+    private long periodNanos;
+    private long deadlineNanos;
+
+    FramePacer(float refreshRate) {
+        setTargetRate(refreshRate);
+    }
+
+    synchronized void setTargetRate(float refreshRate) {
+        if (!(refreshRate > 0)) {
+            throw new IllegalArgumentException("refreshRate must be greater than 0.");
+        }
+        targetPeriodNanos = (long) (NANOS_PER_SECOND / refreshRate);
+        periodNanos = targetPeriodNanos;
+    }
+
+    synchronized long getTargetPeriod() {
+        return targetPeriodNanos;
+    }
+
+    /**
+     * @return The current frame period, which is never shorter than the target period.
+     */
+    synchronized long getPeriod() {
+        return periodNanos;
+    }
+
+    /**
+     * Adjusts the frame period based on the time taken to render the last frame.
+     * @param renderNanos
+     */
+    synchronized void onFrameRendered(long renderNanos) {
+        if (renderNanos > periodNanos) {
+            periodNanos = Math.min(MAX_PERIOD_NANOS, (long) (renderNanos * OVERRUN_HEADROOM));
+        } else if (renderNanos * 2 < periodNanos) {
+            periodNanos = Math.max(targetPeriodNanos, (long) (periodNanos * RECOVERY_RATE));
+        }
+    }
+
+    /**
+     * @param nowNanos
+     * @return Nanoseconds to wait until the next frame is due.  Frames are scheduled against
+     * a running deadline rather than relative to one another so that time spent rendering
+     * and scheduling latency do not accumulate.
+     */
+    synchronized long nextDelay(long nowNanos) {
+        if (deadlineNanos == 0) {
+            deadlineNanos = nowNanos;
+        }
+        deadlineNanos += periodNanos;
+        long delay = deadlineNanos - nowNanos;
+        if (delay < 0) {
+            // too far behind to catch up; start over from now:
+            deadlineNanos = nowNanos;
+            delay = 0;
+        }
+        return delay;
+    }
+
+    /**
+     * Discards the running deadline, eg. after being paused.
+     */
+    synchronized void reset() {
+        deadlineNanos = 0;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.androidplot.util;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Coalesces frame requests so that a task runs at most once per tick of a {@link FrameClock}, no
+ * matter how often frames are requested.  A request made while the task is running is never lost;
+ * it results in the task running again on the following tick.
+ * @since 0.9.8
+ */
+public class FrameScheduler {
+
+    private final Runnable task;
+    private final AtomicBoolean pending = new AtomicBoolean(false);
+    private volatile FrameClock clock;
+
+    private final Runnable tick = new Runnable() {
+        @Override
+        public void run() {
+            // clear before running so that requests made during the task schedule another tick:
+            if (pending.getAndSet(false)) {
+                task.run();
+            }
+        }
+    };
+
+    /**
+     * @param clock Clock used to pace task invocations.
+     * @param task Task to run once per tick in which a frame was requested.
+     */
+    public FrameScheduler(FrameClock clock, Runnable task) {
+        this.clock = clock;
+        this.task = task;
+    }
+
+    /**
+     * Requests that the task be run on the next tick.  May be called from any thread.
+     */
+    public void requestFrame() {
+        if (pending.compareAndSet(false, true)) {
+            clock.postFrameCallback(tick);
+        }
+    }
+
+    public FrameClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Sets the clock used to pace future ticks.  A tick already posted to the previous
+     * clock is transferred to the new clock.
+     * @param clock
+     */
+    public void setClock(FrameClock clock) {
+        this.clock = clock;
+        if (pending.get()) {
+            clock.postFrameCallback(tick);
+        }
+    }
+}
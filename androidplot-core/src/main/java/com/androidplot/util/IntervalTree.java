@@ -0,0 +1,180 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot.util;
+
+import com.androidplot.LineRegion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An immutable, array backed interval tree used to quickly locate elements whose one dimensional
+ * extent overlaps a given interval or contains a given value in O(log n + k) time rather than
+ * scanning every element.  Results are always returned in the order in which the elements were
+ * originally supplied, which allows the tree to be used as a drop-in replacement for
+ * a linear scan over a z-ordered list.
+ *
+ * Elements are indexed by their extent at the time the tree is built; the tree must be rebuilt
+ * if the elements or their extents change.
+ * @param <ElementType>
+ * @since 0.9.8
+ */
+public class IntervalTree<ElementType> {
+
+    /**
+     * Supplies the extent of an element being indexed.
+     * @param <ElementType>
+     */
+    public interface Extractor<ElementType> {
+        LineRegion getInterval(ElementType element);
+    }
+
+    private final List<ElementType> elements;
+
+    // original index of each element, sorted by interval min:
+    private final int[] order;
+    private final double[] mins;
+    private final double[] maxs;
+
+    // largest max value found within the subtree rooted at each position:
+    private final double[] subtreeMaxs;
+
+    public IntervalTree(List<ElementType> elements, Extractor<? super ElementType> extractor) {
+        this.elements = new ArrayList<>(elements);
+        final int size = this.elements.size();
+        final double[] unsortedMins = new double[size];
+        final double[] unsortedMaxs = new double[size];
+        Integer[] sorted = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            LineRegion interval = extractor.getInterval(this.elements.get(i));
+            unsortedMins[i] = interval.getMinVal().doubleValue();
+            unsortedMaxs[i] = interval.getMaxVal().doubleValue();
+            sorted[i] = i;
+        }
+
+        Arrays.sort(sorted, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer lhs, Integer rhs) {
+                return Double.compare(unsortedMins[lhs], unsortedMins[rhs]);
+            }
+        });
+
+        order = new int[size];
+        mins = new double[size];
+        maxs = new double[size];
+        subtreeMaxs = new double[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = sorted[i];
+            mins[i] = unsortedMins[order[i]];
+            maxs[i] = unsortedMaxs[order[i]];
+        }
+        computeSubtreeMax(0, size - 1);
+    }
+
+    private double computeSubtreeMax(int lo, int hi) {
+        if (lo > hi) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        int mid = (lo + hi) >>> 1;
+        subtreeMaxs[mid] = Math.max(maxs[mid],
+                Math.max(computeSubtreeMax(lo, mid - 1), computeSubtreeMax(mid + 1, hi)));
+        return subtreeMaxs[mid];
+    }
+
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * @param min
+     * @param max
+     * @return All elements whose extent overlaps [min, max], inclusive, in their original order.
+     */
+    public List<ElementType> findOverlapping(double min, double max) {
+        if (elements.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int[] found = new int[elements.size()];
+        int count = collect(0, elements.size() - 1, min, max, found, 0);
+        Arrays.sort(found, 0, count);
+        List<ElementType> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(elements.get(found[i]));
+        }
+        return result;
+    }
+
+    /**
+     * @param value
+     * @return All elements whose extent contains value, in their original order.
+     */
+    public List<ElementType> findContaining(double value) {
+        return findOverlapping(value, value);
+    }
+
+    /**
+     * @param value
+     * @return The first element, in original order, whose extent contains value or null if none do.
+     */
+    public ElementType findFirstContaining(double value) {
+        int first = findFirst(0, elements.size() - 1, value, Integer.MAX_VALUE);
+        return first == Integer.MAX_VALUE ? null : elements.get(first);
+    }
+
+    private int collect(int lo, int hi, double min, double max, int[] found, int count) {
+        if (lo > hi) {
+            return count;
+        }
+        int mid = (lo + hi) >>> 1;
+
+        // nothing in this subtree extends far enough to reach min:
+        if (subtreeMaxs[mid] < min) {
+            return count;
+        }
+        count = collect(lo, mid - 1, min, max, found, count);
+
+        // everything at or to the right of mid starts after max:
+        if (mins[mid] > max) {
+            return count;
+        }
+        if (maxs[mid] >= min) {
+            found[count++] = order[mid];
+        }
+        return collect(mid + 1, hi, min, max, found, count);
+    }
+
+    private int findFirst(int lo, int hi, double value, int first) {
+        if (lo > hi) {
+            return first;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (subtreeMaxs[mid] < value) {
+            return first;
+        }
+        first = findFirst(lo, mid - 1, value, first);
+        if (mins[mid] > value) {
+            return first;
+        }
+        if (maxs[mid] >= value && order[mid] < first) {
+            first = order[mid];
+        }
+        return findFirst(mid + 1, hi, value, first);
+    }
+}
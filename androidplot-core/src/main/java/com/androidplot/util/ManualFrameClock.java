@@ -0,0 +1,56 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.androidplot.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link FrameClock} that only ticks when {@link #tick()} is invoked.  Primarily
+ * useful for testing.
+ * @since 0.9.8
+ */
+public class ManualFrameClock implements FrameClock {
+
+    private final List<Runnable> callbacks = new ArrayList<>();
+
+    @Override
+    public synchronized void postFrameCallback(Runnable callback) {
+        callbacks.add(callback);
+    }
+
+    /**
+     * Invokes, on the calling thread, every callback posted before this tick.
+     * Callbacks posted while ticking are deferred until the next tick.
+     */
+    public void tick() {
+        List<Runnable> pending;
+        synchronized (this) {
+            pending = new ArrayList<>(callbacks);
+            callbacks.clear();
+        }
+        for (Runnable callback : pending) {
+            callback.run();
+        }
+    }
+
+    /**
+     * @return The number of callbacks waiting for the next tick.
+     */
+    public synchronized int getPendingCount() {
+        return callbacks.size();
+    }
+}
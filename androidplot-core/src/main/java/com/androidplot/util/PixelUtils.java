@@ -28,8 +28,14 @@ import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * Utilities for converting between units and pixels.  Thread safe; plots may be created and
+ * rendered concurrently on any thread.
+ */
 public class PixelUtils {
-    private static DisplayMetrics metrics;
+
+    // written whenever a plot is created or resized, possibly from several threads at once:
+    private static volatile DisplayMetrics metrics;
     private static final float FLOAT_INT_AVG_NUDGE = 0.5f;
 
     /**
@@ -74,8 +80,7 @@ public class PixelUtils {
      * @return Pixel value of dp.
      */
     public static float dpToPix(float dp) {
-        checkMetrics();
-        return TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, dp, metrics);
+        return TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, dp, getMetrics());
 
     }
 
@@ -86,8 +91,7 @@ public class PixelUtils {
      */
     @SuppressWarnings("SameParameterValue")
     public static float spToPix(float sp) {
-        checkMetrics();
-        return TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, sp, metrics);
+        return TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, sp, getMetrics());
     }
 
 
@@ -97,8 +101,7 @@ public class PixelUtils {
      * @return Number of pixels fraction represents on the current device's display.
      */
     public static float fractionToPixH(float fraction) {
-        checkMetrics();
-        return metrics.heightPixels * fraction;
+        return getMetrics().heightPixels * fraction;
 
     }
 
@@ -108,8 +111,7 @@ public class PixelUtils {
      * @return Number of pixels fraction represents on the current device's display.
      */
     public static float fractionToPixW(float fraction) {
-        checkMetrics();
-        return metrics.widthPixels * fraction;
+        return getMetrics().widthPixels * fraction;
     }
 
 
@@ -178,12 +180,15 @@ public class PixelUtils {
     }
 
     /**
-     * Safety check to hopefully help clarify what could otherwise be a confusing NPE.
+     * Reads metrics exactly once so that callers use a consistent instance, and provides a
+     * safety check to hopefully help clarify what could otherwise be a confusing NPE.
      */
-    private static void checkMetrics() {
-        if(metrics == null) {
+    private static DisplayMetrics getMetrics() {
+        final DisplayMetrics m = metrics;
+        if(m == null) {
             throw new RuntimeException("PixelUtils not initialized; call PixelUtils.init(Context) before using.");
         }
+        return m;
     }
 }
 
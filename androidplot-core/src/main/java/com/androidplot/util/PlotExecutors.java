@@ -0,0 +1,84 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.androidplot.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Factory methods for the background executors used by Androidplot.  All threads are named
+ * daemon threads so that they are identifiable in traces and never keep the process alive.
+ * Plain thread pools are used rather than ForkJoinPool, which requires API 21.
+ * <p>
+ * Pools are intentionally not shared between components; some tasks wait on work submitted
+ * to another component's pool, which could deadlock a shared fixed size pool.
+ * @since 0.9.8
+ */
+public final class PlotExecutors {
+
+    private PlotExecutors() {}
+
+    /**
+     * @return The number of available processors; the default size of compute pools.
+     */
+    public static int getParallelism() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * @param name Name given to each thread created.
+     * @return A factory creating named daemon threads.
+     */
+    public static ThreadFactory newDaemonThreadFactory(final String name) {
+        return new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, name);
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+    }
+
+    /**
+     * @param threads
+     * @param name Name given to each thread created.
+     * @return A fixed size pool of named daemon threads.
+     */
+    public static ExecutorService newFixedThreadPool(int threads, String name) {
+        return Executors.newFixedThreadPool(threads, newDaemonThreadFactory(name));
+    }
+
+    /**
+     * @param name Name given to the thread created.
+     * @return An executor backed by a single named daemon thread.
+     */
+    public static ExecutorService newSingleThreadExecutor(String name) {
+        return Executors.newSingleThreadExecutor(newDaemonThreadFactory(name));
+    }
+
+    /**
+     * @param name Name given to the thread created.
+     * @return A scheduled executor backed by a single named daemon thread.
+     */
+    public static ScheduledExecutorService newSingleThreadScheduledExecutor(String name) {
+        return Executors.newSingleThreadScheduledExecutor(newDaemonThreadFactory(name));
+    }
+}
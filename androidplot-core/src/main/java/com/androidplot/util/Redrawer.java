@@ -17,52 +17,118 @@
 package com.androidplot.util;
 
 import android.util.Log;
+import android.view.View;
 import com.androidplot.Plot;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Utility class for invoking Plot.redraw() on a background thread
- * at a set frequency.
+ * at a set frequency.  The time between redraws is adjusted to account for time spent rendering,
+ * and the refresh rate is automatically lowered while plots take longer to render than the
+ * requested rate allows.  Plots that are detached or not visible are skipped; when none are
+ * visible redrawing is suspended until one becomes visible again.
+ *
+ * By default all Redrawer instances share a single scheduler thread.
  */
 public class Redrawer implements Runnable {
 
-    private static final int ONE_SECOND_MS = 1000;
-
     private static final String TAG = Redrawer.class.getName();
 
-    private List<Plot> plots;
-    private long sleepTime;
+    // how often to check whether a plot has become visible again while suspended:
+    private static final long IDLE_POLL_MS = 250;
+
+    private static ScheduledExecutorService sharedExecutor;
+
+    private final List<Plot> plots;
+    private final FramePacer pacer;
+    private final ScheduledExecutorService executor;
+
+    // guarded by this:
     private boolean keepRunning;
-    private boolean keepAlive;
+    private ScheduledFuture<?> nextFrame;
+
+    // guarded by this; bumped by start() and pause() so that a frame already running when
+    // redrawing is paused and restarted does not continue its superseded chain:
+    private int generation;
+
+    /**
+     * A scheduled frame, which only schedules its successor while its chain is current.
+     */
+    private class Frame implements Runnable {
+        private final int generation;
+
+        Frame(int generation) {
+            this.generation = generation;
+        }
+
+        @Override
+        public void run() {
+            long delayNanos = TimeUnit.MILLISECONDS.toNanos(IDLE_POLL_MS);
+            try {
+                delayNanos = redrawActivePlots();
+            } finally {
+                synchronized (Redrawer.this) {
+                    if(keepRunning && generation == Redrawer.this.generation) {
+                        nextFrame = executor.schedule(this, delayNanos, TimeUnit.NANOSECONDS);
+                    }
+                }
+            }
+        }
+    }
+
+    private static synchronized ScheduledExecutorService getSharedExecutor() {
+        if(sharedExecutor == null) {
+            sharedExecutor = PlotExecutors.newSingleThreadScheduledExecutor("Androidplot Redrawer");
+        }
+        return sharedExecutor;
+    }
 
     /**
      *
      * @param plots List of Plot instances to be redrawn
      * @param maxRefreshRate Desired frequency at which to redraw plots.
-     * @param startImmediately If true, invokes run() immediately after construction.
+     * @param startImmediately If true, invokes start() immediately after construction.
      */
     public Redrawer(List<Plot> plots, float maxRefreshRate, boolean startImmediately) {
-        this.plots = plots;
-        setMaxRefreshRate(maxRefreshRate);
-        new Thread(this).start();
-        if(startImmediately) {
-            run();
-        }
+        this(plots, maxRefreshRate, startImmediately, getSharedExecutor());
     }
 
     public Redrawer(Plot plot, float maxRefreshRate, boolean startImmediately) {
         this(Arrays.asList(new Plot[]{plot}), maxRefreshRate, startImmediately);
     }
 
+    /**
+     * @param plots List of Plot instances to be redrawn
+     * @param maxRefreshRate Desired frequency at which to redraw plots.
+     * @param startImmediately If true, invokes start() immediately after construction.
+     * @param executor Scheduler used to run redraws.
+     * @since 0.9.8
+     */
+    public Redrawer(List<Plot> plots, float maxRefreshRate, boolean startImmediately,
+                    ScheduledExecutorService executor) {
+        this.plots = plots;
+        this.executor = executor;
+        this.pacer = new FramePacer(maxRefreshRate);
+        if(startImmediately) {
+            start();
+        }
+    }
+
     /**
      * Temporarily stop redrawing the plot.
      */
     public synchronized void pause() {
         keepRunning = false;
-        notify();
+        generation++;
+        if(nextFrame != null) {
+            nextFrame.cancel(false);
+            nextFrame = null;
+        }
         Log.d(TAG, "Redrawer paused.");
     }
 
@@ -70,61 +136,71 @@ public class Redrawer implements Runnable {
      * Start/resume redrawing the plot.
      */
     public synchronized void start() {
-        keepRunning = true;
-        notify();
+        if(!keepRunning) {
+            keepRunning = true;
+            generation++;
+            pacer.reset();
+            nextFrame = executor.schedule(new Frame(generation), 0, TimeUnit.NANOSECONDS);
+        }
         Log.d(TAG, "Redrawer started.");
     }
 
     /**
-     * Internally, this causes
-     * the refresh thread to exit.  Should always be called
+     * Stops redrawing permanently.  Should always be called
      * before exiting the application.
      */
     public synchronized void finish() {
-        keepRunning = false;
-        keepAlive = false;
-        notify();
+        pause();
     }
 
+    /**
+     * Redraws each active plot once.  Subsequent frames are scheduled by {@link #start()}.
+     */
     @Override
     public void run() {
-        keepAlive = true;
-        try {
-        while(keepAlive) {
-            if(keepRunning) {
-                // redraw plot(s) and sleep in an interruptible state for a
-                // max of sleepTime ms.
-                // TODO: record start and end timestamps and
-                // TODO: calculate sleepTime from that, in order to more accurately
-                // TODO: meet desired refresh rate.
-                for(Plot plot : plots) {
-                    plot.redraw();
-                }
-                synchronized (this) {
-                    wait(sleepTime);
-                }
-            } else {
-                // sleep until notified
-                synchronized (this) {
-                    wait();
-                }
+        redrawActivePlots();
+    }
+
+    /**
+     * Redraws each active plot and adapts the refresh rate to their render times.  Since
+     * {@link Plot#redraw()} only requests a frame, the render times used are those of the
+     * most recently completed frames, so the rate adapts one frame behind.
+     * @return Nanoseconds until the next frame is due.
+     */
+    private long redrawActivePlots() {
+        boolean anyActive = false;
+        long renderNanos = 0;
+        for(Plot plot : plots) {
+            if(isActive(plot)) {
+                anyActive = true;
+                plot.redraw();
+                renderNanos = Math.max(renderNanos, plot.getLastRenderDuration());
             }
         }
-        } catch(InterruptedException e) {
-
-        } finally {
-            Log.d(TAG, "Redrawer thread exited.");
+        if(anyActive) {
+            pacer.onFrameRendered(renderNanos);
+            return pacer.nextDelay(System.nanoTime());
         }
+        pacer.reset();
+        return TimeUnit.MILLISECONDS.toNanos(IDLE_POLL_MS);
+    }
+
+    /**
+     * @param plot
+     * @return True if plot is attached to a visible window and is itself visible.
+     */
+    protected boolean isActive(Plot plot) {
+        return plot.isShown() && plot.getWindowVisibility() == View.VISIBLE;
     }
 
     /**
      * Set the maximum refresh rate that Redrawer should use.  Actual
      * refresh rate could be slower.
-     * @param refreshRate Refresh rate in Hz.
+     * @param refreshRate Refresh rate in Hz; must be greater than 0.
      */
     public void setMaxRefreshRate(float refreshRate) {
-        sleepTime = (long)(ONE_SECOND_MS / refreshRate);
+        pacer.setTargetRate(refreshRate);
         Log.d(TAG, "Set Redrawer refresh rate to " +
-                refreshRate + "( " + sleepTime + " ms)");
+                refreshRate + "( " + TimeUnit.NANOSECONDS.toMillis(pacer.getTargetPeriod()) + " ms)");
     }
 }
@@ -21,6 +21,7 @@ import com.androidplot.xy.XYBounds;
 import com.androidplot.xy.XYConstraints;
 import com.androidplot.xy.XYSeries;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -43,8 +44,13 @@ public class SeriesUtils {
      * @since 0.9.7
      */
     public static XYBounds minMax(XYConstraints constraints, List<XYSeries> seriesList) {
-        // TODO: this is inefficient...clean it up!
-        return minMax(constraints, seriesList.toArray(new XYSeries[seriesList.size()]));
+        final Extents extents = new Extents();
+        if (seriesList != null) {
+            for (XYSeries series : seriesList) {
+                extents.scan(constraints, series, 0, series.size(), true, true);
+            }
+        }
+        return extents.toBounds();
     }
 
     /**
@@ -54,48 +60,90 @@ public class SeriesUtils {
      * @since 0.9.7
      */
     public static XYBounds minMax(XYConstraints constraints, XYSeries... seriesArray) {
+        return minMax(constraints, seriesArray != null ? Arrays.asList(seriesArray) : null);
+    }
+
+    /**
+     * Running min/max of a set of xy values.  Keeps the original Number instances along with
+     * their double values so that comparisons don't repeatedly unbox.
+     */
+    static class Extents {
+        Number minX;
+        Number maxX;
+        Number minY;
+        Number maxY;
+        private double minXd;
+        private double maxXd;
+        private double minYd;
+        private double maxYd;
 
-        final XYBounds bounds = new XYBounds();
-
-        // make sure there is series data to iterate over:
-        if (seriesArray != null && seriesArray.length > 0) {
-
-            // iterate over each series
-            for (XYSeries series : seriesArray) {
-                if (series.size() > 0) {
-                    for (int i = 0; i < series.size(); i++) {
-                        final Number xi = series.getX(i);
-                        final Number yi = series.getY(i);
-
-                        // if constraints have been set, make sure this xy coordinate exists within them:
-                        if (constraints == null || constraints.contains(xi, yi)) {
-                            if (xi != null) {
-                                if (bounds.getMinX() == null ||
-                                        xi.doubleValue() < bounds.getMinX().doubleValue()) {
-                                    bounds.setMinX(xi);
-                                }
-                                if (bounds.getMaxX() == null ||
-                                        xi.doubleValue() > bounds.getMaxX().doubleValue()) {
-                                    bounds.setMaxX(xi);
-                                }
-                            }
-                            if (yi != null) {
-
-                                if (bounds.getMinY() == null ||
-                                        yi.doubleValue() < bounds.getMinY().doubleValue()) {
-                                    bounds.setMinY(yi);
-                                }
-                                if (bounds.getMaxY() == null ||
-                                        yi.doubleValue() > bounds.getMaxY().doubleValue()) {
-                                    bounds.setMaxY(yi);
-                                }
-                            }
-                        }
+        /**
+         * Accumulates the values of series in [from, to).
+         * @param constraints If not null, only points within constraints are accumulated.
+         * @param series
+         * @param from
+         * @param to
+         * @param includeX If false, x values are not accumulated.
+         * @param includeY If false, y values are not accumulated.
+         */
+        void scan(XYConstraints constraints, XYSeries series, int from, int to,
+                  boolean includeX, boolean includeY) {
+            for (int i = from; i < to; i++) {
+                final Number xi = series.getX(i);
+                final Number yi = series.getY(i);
+
+                // if constraints have been set, make sure this xy coordinate exists within them:
+                if (constraints == null || constraints.contains(xi, yi)) {
+                    if (includeX && xi != null) {
+                        addX(xi, xi.doubleValue());
+                    }
+                    if (includeY && yi != null) {
+                        addY(yi, yi.doubleValue());
                     }
                 }
             }
         }
-        return bounds;
+
+        private void addX(Number x, double dx) {
+            if (minX == null || dx < minXd) {
+                minX = x;
+                minXd = dx;
+            }
+            if (maxX == null || dx > maxXd) {
+                maxX = x;
+                maxXd = dx;
+            }
+        }
+
+        private void addY(Number y, double dy) {
+            if (minY == null || dy < minYd) {
+                minY = y;
+                minYd = dy;
+            }
+            if (maxY == null || dy > maxYd) {
+                maxY = y;
+                maxYd = dy;
+            }
+        }
+
+        /**
+         * Merges other into this instance.
+         * @param other
+         */
+        void union(Extents other) {
+            if (other.minX != null) {
+                addX(other.minX, other.minXd);
+                addX(other.maxX, other.maxXd);
+            }
+            if (other.minY != null) {
+                addY(other.minY, other.minYd);
+                addY(other.maxY, other.maxYd);
+            }
+        }
+
+        XYBounds toBounds() {
+            return new XYBounds(minX, maxX, minY, maxY);
+        }
     }
 
     /**
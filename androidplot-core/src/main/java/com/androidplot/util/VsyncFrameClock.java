@@ -0,0 +1,69 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+package com.androidplot.util;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
+/**
+ * A {@link FrameClock} that ticks with the display's vsync on Jelly Bean and later,
+ * and approximately once per 60Hz frame on earlier versions.  Callbacks are always invoked
+ * on the main thread.
+ * @since 0.9.8
+ */
+public class VsyncFrameClock implements FrameClock {
+
+    private static final long FALLBACK_FRAME_MS = 16;
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    /**
+     * Kept in a separate class so Choreographer is never loaded on older devices.
+     */
+    @TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+    private static class ChoreographerPoster {
+        static void post(final Runnable callback) {
+            Choreographer.getInstance().postFrameCallback(new Choreographer.FrameCallback() {
+                @Override
+                public void doFrame(long frameTimeNanos) {
+                    callback.run();
+                }
+            });
+        }
+    }
+
+    @Override
+    public void postFrameCallback(final Runnable callback) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            // Choreographer instances are per-thread; always use the main thread's:
+            if (Looper.myLooper() == Looper.getMainLooper()) {
+                ChoreographerPoster.post(callback);
+            } else {
+                handler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        ChoreographerPoster.post(callback);
+                    }
+                });
+            }
+        } else {
+            handler.postDelayed(callback, FALLBACK_FRAME_MS);
+        }
+    }
+}
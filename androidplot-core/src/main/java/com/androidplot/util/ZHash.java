@@ -21,16 +21,20 @@ import java.util.List;
 
 /**
  * An implementation of {@link ZIndexable}.  Provides fast element retrieval via hash key in addition to
- * mutable ordering (z indexing) of elements.
+ * mutable ordering (z indexing) of elements.  Reordering and removal run in constant time; see
+ * {@link ZOrderList}.
  */
 public class ZHash<KeyType, ValueType> implements ZIndexable<KeyType> {
 
     private HashMap<KeyType, ValueType> hash;
-    private ZLinkedList<KeyType> zlist;
+    private ZOrderList<KeyType> zlist;
+
+    // incremented each time the set of keys, their values or their order changes:
+    private int modCount;
 
     {
         hash = new HashMap<>();
-        zlist = new ZLinkedList<>();
+        zlist = new ZOrderList<>();
     }
 
     public int size() {
@@ -46,6 +50,16 @@ public class ZHash<KeyType, ValueType> implements ZIndexable<KeyType> {
         return zlist;
     }
 
+    /**
+     * Structural modification counter; incremented each time an element is added,
+     * replaced, removed or reordered.  Useful for invalidating state derived from the
+     * contents of this structure without having to rescan it.
+     * @return The current modification count.
+     */
+    public int getModCount() {
+        return modCount;
+    }
+
     /**
      * If key already exists within the structure, it's value is replaced with the new value and
      * it's existing order is maintained.
@@ -59,6 +73,7 @@ public class ZHash<KeyType, ValueType> implements ZIndexable<KeyType> {
             hash.put(key, value);
             zlist.addToTop(key);
         }
+        modCount++;
     }
 
     /**
@@ -74,13 +89,14 @@ public class ZHash<KeyType, ValueType> implements ZIndexable<KeyType> {
             hash.put(key, value);
             zlist.addToBottom(key);
         }
+        modCount++;
     }
 
     public synchronized boolean moveToTop(KeyType element) {
         if(!hash.containsKey(element)) {
             return false;
         } else {
-            return zlist.moveToTop(element);
+            return modified(zlist.moveToTop(element));
         }
     }
 
@@ -91,7 +107,7 @@ public class ZHash<KeyType, ValueType> implements ZIndexable<KeyType> {
         if(!hash.containsKey(reference) || !hash.containsKey(objectToMove)) {
             return false;
         } else {
-            return zlist.moveAbove(objectToMove, reference);
+            return modified(zlist.moveAbove(objectToMove, reference));
         }
     }
 
@@ -102,7 +118,7 @@ public class ZHash<KeyType, ValueType> implements ZIndexable<KeyType> {
         if(!hash.containsKey(reference) || !hash.containsKey(objectToMove)) {
             return false;
         } else {
-            return zlist.moveBeneath(objectToMove, reference);
+            return modified(zlist.moveBeneath(objectToMove, reference));
         }
     }
 
@@ -110,7 +126,7 @@ public class ZHash<KeyType, ValueType> implements ZIndexable<KeyType> {
         if(!hash.containsKey(key)) {
             return false;
         } else {
-            return zlist.moveToBottom(key);
+            return modified(zlist.moveToBottom(key));
         }
     }
 
@@ -118,7 +134,7 @@ public class ZHash<KeyType, ValueType> implements ZIndexable<KeyType> {
         if (!hash.containsKey(key)) {
             return false;
         } else {
-            return zlist.moveUp(key);
+            return modified(zlist.moveUp(key));
         }
     }
 
@@ -126,7 +142,7 @@ public class ZHash<KeyType, ValueType> implements ZIndexable<KeyType> {
         if (!hash.containsKey(key)) {
             return false;
         } else {
-            return zlist.moveDown(key);
+            return modified(zlist.moveDown(key));
         }
     }
 
@@ -148,9 +164,25 @@ public class ZHash<KeyType, ValueType> implements ZIndexable<KeyType> {
         if(hash.containsKey(key)) {
             hash.remove(key);
             zlist.remove(key);
+            modCount++;
             return true;
         } else {
             return false;
         }
     }
+
+    /**
+     * Increments the modification count without changing the structure; used to signal that
+     * an element was modified in a way that invalidates state derived from this structure.
+     */
+    public synchronized void notifyChanged() {
+        modCount++;
+    }
+
+    private boolean modified(boolean result) {
+        if(result) {
+            modCount++;
+        }
+        return result;
+    }
 }
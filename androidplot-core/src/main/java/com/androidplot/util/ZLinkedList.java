@@ -19,6 +19,10 @@ package com.androidplot.util;
 import java.util.LinkedList;
 import java.util.List;
 
+/**
+ * @deprecated Reordering is O(n); use {@link ZOrderList} instead.
+ */
+@Deprecated
 public class ZLinkedList<Type> extends LinkedList<Type> implements ZIndexable<Type> {
 
     private ListOrganizer<Type> organizer = new ListOrganizer<>(this);
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot.util;
+
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * A {@link ZIndexable} list of unique elements, ordered from bottom (index 0) to top.
+ * Elements are kept in a doubly linked list indexed by a hash of element to node, so membership
+ * checks, removal and every reordering operation run in constant time regardless of size.
+ * Indexed access is served from an array snapshot that is rebuilt at most once after each
+ * modification, so iterating by index between modifications is also constant time per element.
+ *
+ * Since elements are unique, adding an element that is already present moves it to the
+ * requested position instead of adding a duplicate.
+ * @param <ElementType>
+ */
+public class ZOrderList<ElementType> extends AbstractList<ElementType>
+        implements ZIndexable<ElementType> {
+
+    private static class Node<ElementType> {
+        final ElementType element;
+        Node<ElementType> below;
+        Node<ElementType> above;
+
+        Node(ElementType element) {
+            this.element = element;
+        }
+    }
+
+    private final HashMap<ElementType, Node<ElementType>> nodes = new HashMap<>();
+
+    // sentinels; bottom.above is the lowest element and top.below the highest:
+    private final Node<ElementType> bottom = new Node<>(null);
+    private final Node<ElementType> top = new Node<>(null);
+
+    // elements in order; null when stale:
+    private Object[] snapshot;
+
+    {
+        bottom.above = top;
+        top.below = bottom;
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        return nodes.containsKey(element);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public ElementType get(int index) {
+        if(index < 0 || index >= nodes.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + nodes.size());
+        }
+        if(snapshot == null) {
+            final Object[] elements = new Object[nodes.size()];
+            int i = 0;
+            for(Node<ElementType> n = bottom.above; n != top; n = n.above) {
+                elements[i++] = n.element;
+            }
+            snapshot = elements;
+        }
+        return (ElementType) snapshot[index];
+    }
+
+    @Override
+    public int indexOf(Object element) {
+        return contains(element) ? super.indexOf(element) : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object element) {
+        return indexOf(element);
+    }
+
+    /**
+     * Same as {@link #addToTop(Object)}.
+     * @param element
+     * @return True if element was not already present.
+     */
+    @Override
+    public boolean add(ElementType element) {
+        final boolean added = !contains(element);
+        addToTop(element);
+        return added;
+    }
+
+    @Override
+    public void add(int index, ElementType element) {
+        if(index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if(index == size()) {
+            addToTop(element);
+        } else {
+            final ElementType reference = get(index);
+            if(reference != element) {
+                link(obtain(element), nodes.get(reference).below);
+            }
+        }
+    }
+
+    @Override
+    public ElementType remove(int index) {
+        final ElementType element = get(index);
+        remove(element);
+        return element;
+    }
+
+    @Override
+    public boolean remove(Object element) {
+        final Node<ElementType> node = nodes.remove(element);
+        if(node == null) {
+            return false;
+        }
+        unlink(node);
+        modified();
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        nodes.clear();
+        bottom.above = top;
+        top.below = bottom;
+        modified();
+    }
+
+    public void addToTop(ElementType element) {
+        link(obtain(element), top.below);
+    }
+
+    public void addToBottom(ElementType element) {
+        link(obtain(element), bottom);
+    }
+
+    @Override
+    public boolean moveToTop(ElementType element) {
+        final Node<ElementType> node = nodes.get(element);
+        if(node == null) {
+            return false;
+        }
+        link(node, top.below);
+        return true;
+    }
+
+    @Override
+    public boolean moveAbove(ElementType objectToMove, ElementType reference) {
+        if(objectToMove == reference) {
+            throw new IllegalArgumentException("Illegal argument to moveAbove(A, B); A cannot be equal to B.");
+        }
+        final Node<ElementType> node = nodes.get(objectToMove);
+        final Node<ElementType> referenceNode = nodes.get(reference);
+        if(node == null || referenceNode == null) {
+            return false;
+        }
+        link(node, referenceNode);
+        return true;
+    }
+
+    @Override
+    public boolean moveBeneath(ElementType objectToMove, ElementType reference) {
+        if(objectToMove == reference) {
+            throw new IllegalArgumentException("Illegal argument to moveBeaneath(A, B); A cannot be equal to B.");
+        }
+        final Node<ElementType> node = nodes.get(objectToMove);
+        final Node<ElementType> referenceNode = nodes.get(reference);
+        if(node == null || referenceNode == null) {
+            return false;
+        }
+        link(node, referenceNode.below);
+        return true;
+    }
+
+    @Override
+    public boolean moveToBottom(ElementType element) {
+        final Node<ElementType> node = nodes.get(element);
+        if(node == null) {
+            return false;
+        }
+        link(node, bottom);
+        return true;
+    }
+
+    @Override
+    public boolean moveUp(ElementType element) {
+        final Node<ElementType> node = nodes.get(element);
+        if(node == null) {
+            return false;
+        }
+        if(node.above != top) {
+            link(node, node.above);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean moveDown(ElementType element) {
+        final Node<ElementType> node = nodes.get(element);
+        if(node == null) {
+            return false;
+        }
+        if(node.below != bottom) {
+            link(node, node.below.below);
+        }
+        return true;
+    }
+
+    @Override
+    public List<ElementType> elements() {
+        return this;
+    }
+
+    private Node<ElementType> obtain(ElementType element) {
+        Node<ElementType> node = nodes.get(element);
+        if(node == null) {
+            node = new Node<>(element);
+            nodes.put(element, node);
+        }
+        return node;
+    }
+
+    /**
+     * (Re)inserts node directly above predecessor.
+     */
+    private void link(Node<ElementType> node, Node<ElementType> predecessor) {
+        if(node == predecessor) {
+            return;
+        }
+        if(node.below != null) {
+            unlink(node);
+        }
+        node.below = predecessor;
+        node.above = predecessor.above;
+        predecessor.above.below = node;
+        predecessor.above = node;
+        modified();
+    }
+
+    private static <ElementType> void unlink(Node<ElementType> node) {
+        node.below.above = node.above;
+        node.above.below = node.below;
+        node.below = null;
+        node.above = null;
+    }
+
+    private void modified() {
+        snapshot = null;
+        modCount++;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot.xy;
+
+/**
+ * Defines how {@link XYGraphWidget} renders series data.
+ *
+ * STANDARD - All series data is rendered from scratch every frame.
+ * STRIP_CHART - Intended for plots whose domain window scrolls as new data arrives.  Rendered data is
+ * retained between frames; each frame the previous data is shifted by the distance the domain window
+ * moved and only the newly exposed strip is rasterized.  Every point is still visited by the series
+ * renderers each frame and the grid is redrawn in full, so this mainly saves fill rate rather than
+ * per point work.  Falls back to a full render whenever the range boundaries, domain width, plot
+ * size or the set of series change.
+ * SWEEP - Oscilloscope style rendering of {@link SweepSeries} data over a fixed domain.  New samples
+ * overwrite old ones at a cursor that sweeps left to right, preceded by a small erase band.  Only the
+ * columns between the previous and current cursor positions are rendered each frame.  Series that are
+ * not instances of {@link SweepSeries} are rendered normally on top of the sweep.
+ * @since 0.9.8
+ */
+public enum DataRenderMode {
+    STANDARD,
+    STRIP_CHART,
+    SWEEP
+}
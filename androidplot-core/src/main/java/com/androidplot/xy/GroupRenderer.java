@@ -45,7 +45,7 @@ public abstract class GroupRenderer<FormatterType extends XYSeriesFormatter<XYRe
 
 
         // get all the data  associated with this renderer:
-        List<SeriesAndFormatter<XYSeries, ? extends FormatterType>> sfList = getSeriesAndFormatterList();
+        List<SeriesAndFormatter<XYSeries, ? extends FormatterType>> sfList = getSeriesAndFormatterView();
 
         // no data to render so exit:
         if(sfList == null) {
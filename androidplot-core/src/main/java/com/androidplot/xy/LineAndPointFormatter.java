@@ -51,7 +51,22 @@ public class LineAndPointFormatter extends XYSeriesFormatter<XYRegionFormatter>
         this.fillDirection = fillDirection;
     }
 
+    /**
+     * Sets how regions are masked against the line's fill area.  Defaults to
+     * {@link RegionFillMode#CLIP}.  See {@link RegionFillMode}.
+     * @param regionFillMode
+     * @since 0.9.8
+     */
+    public void setRegionFillMode(RegionFillMode regionFillMode) {
+        this.regionFillMode = regionFillMode;
+    }
+
+    public RegionFillMode getRegionFillMode() {
+        return regionFillMode;
+    }
+
     protected FillDirection fillDirection = FillDirection.BOTTOM;
+    protected RegionFillMode regionFillMode = RegionFillMode.CLIP;
     protected Paint linePaint;
     protected Paint vertexPaint;
     protected Paint fillPaint;
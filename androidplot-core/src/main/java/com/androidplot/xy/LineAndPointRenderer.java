@@ -32,10 +32,35 @@ public class LineAndPointRenderer<FormatterType extends LineAndPointFormatter> e
     protected static final int ZERO = 0;
     protected static final int ONE = 1;
 
+    /**
+     * A Path that additionally records its vertices, which are needed to calculate
+     * region geometry when using {@link RegionFillMode#POLYGON}.
+     */
+    private static class VertexPath extends Path {
+        private final RegionFillGeometry.Points vertices = new RegionFillGeometry.Points();
+
+        @Override
+        public void moveTo(float x, float y) {
+            super.moveTo(x, y);
+            vertices.clear();
+            vertices.add(x, y);
+        }
+
+        @Override
+        public void lineTo(float x, float y) {
+            super.lineTo(x, y);
+            vertices.add(x, y);
+        }
+    }
+
     public LineAndPointRenderer(XYPlot plot) {
         super(plot);
     }
 
+    private static Path newPath(LineAndPointFormatter formatter) {
+        return formatter.getRegionFillMode() == RegionFillMode.POLYGON ? new VertexPath() : new Path();
+    }
+
     @Override
     public void onRender(Canvas canvas, RectF plotArea, XYSeries series, FormatterType formatter, RenderStack stack) throws PlotRenderException {
         drawSeries(canvas, plotArea, series, formatter);
@@ -76,21 +101,24 @@ public class LineAndPointRenderer<FormatterType extends LineAndPointFormatter> e
         Paint  linePaint = formatter.getLinePaint();
         Path path = null;
         ArrayList<PointF> points = new ArrayList<>(series.size());
+
+        // use pixel coordinates calculated by the preparation stage when available:
+        final XYSeriesSnapshot snapshot = series instanceof XYSeriesSnapshot &&
+                ((XYSeriesSnapshot) series).hasPixelsFor(plotArea) ? (XYSeriesSnapshot) series : null;
         for (int i = 0; i < series.size(); i++) {
-            Number y = series.getY(i);
-            Number x = series.getX(i);
-
-            if (y != null && x != null) {
-                thisPoint = ValPixConverter.valToPix(
-                        x, y,
-                        plotArea,
-                        getPlot().getCalculatedMinX(),
-                        getPlot().getCalculatedMaxX(),
-                        getPlot().getCalculatedMinY(),
-                        getPlot().getCalculatedMaxY());
-                points.add(thisPoint);
+            if (snapshot != null) {
+                final float pixX = snapshot.getPixelX(i);
+                if (!Float.isNaN(pixX)) {
+                    thisPoint = new PointF(pixX, snapshot.getPixelY(i));
+                    points.add(thisPoint);
+                } else {
+                    thisPoint = null;
+                }
             } else {
-                thisPoint = null;
+                thisPoint = toPixel(series, i, plotArea);
+                if (thisPoint != null) {
+                    points.add(thisPoint);
+                }
             }
 
             // don't need to do any of this if the line isnt going to be drawn:
@@ -99,7 +127,7 @@ public class LineAndPointRenderer<FormatterType extends LineAndPointFormatter> e
 
                     // record the first point of the new Path
                     if (firstPoint == null) {
-                        path = new Path();
+                        path = newPath(formatter);
                         firstPoint = thisPoint;
 
                         // create our first point at the bottom/x position so filling will look good:
@@ -127,7 +155,7 @@ public class LineAndPointRenderer<FormatterType extends LineAndPointFormatter> e
                         formatter.getInterpolationParams());
                 firstPoint = convertPoint(interpolatedPoints.get(ZERO), plotArea);
                 lastPoint = convertPoint(interpolatedPoints.get(interpolatedPoints.size()-ONE), plotArea);
-                path = new Path();
+                path = newPath(formatter);
                 path.moveTo(firstPoint.x, firstPoint.y);
                 for(int i = 1; i < interpolatedPoints.size(); i++) {
                     thisPoint = convertPoint(interpolatedPoints.get(i), plotArea);
@@ -142,6 +170,21 @@ public class LineAndPointRenderer<FormatterType extends LineAndPointFormatter> e
         renderPoints(canvas, plotArea, series, points, formatter);
     }
 
+    private PointF toPixel(XYSeries series, int index, RectF plotArea) {
+        Number y = series.getY(index);
+        Number x = series.getX(index);
+        if (y == null || x == null) {
+            return null;
+        }
+        return ValPixConverter.valToPix(
+                x, y,
+                plotArea,
+                getPlot().getCalculatedMinX(),
+                getPlot().getCalculatedMaxX(),
+                getPlot().getCalculatedMinY(),
+                getPlot().getCalculatedMaxY());
+    }
+
     /**
      * TODO: retrieve from a persistent registry
      * @param params
@@ -195,16 +238,29 @@ public class LineAndPointRenderer<FormatterType extends LineAndPointFormatter> e
     protected void renderPath(Canvas canvas, RectF plotArea, Path path, PointF firstPoint, PointF lastPoint, LineAndPointFormatter formatter) {
         Path outlinePath = new Path(path);
 
+        // snapshot the line's vertices before the fill edge is appended:
+        RegionFillGeometry.Points lineVertices = null;
+        if(path instanceof VertexPath) {
+            lineVertices = new RegionFillGeometry.Points();
+            RegionFillGeometry.Points vertices = ((VertexPath) path).vertices;
+            for(int i = 0; i < vertices.size; i++) {
+                lineVertices.add(vertices.xs[i], vertices.ys[i]);
+            }
+        }
+        float fillEdge;
+
         // determine how to close the path for filling purposes:
         // We always need to calculate this path because it is also used for
         // masking off for region highlighting.
         switch (formatter.getFillDirection()) {
             case BOTTOM:
+                fillEdge = plotArea.bottom;
                 path.lineTo(lastPoint.x, plotArea.bottom);
                 path.lineTo(firstPoint.x, plotArea.bottom);
                 path.close();
                 break;
             case TOP:
+                fillEdge = plotArea.top;
                 path.lineTo(lastPoint.x, plotArea.top);
                 path.lineTo(firstPoint.x, plotArea.top);
                 path.close();
@@ -217,6 +273,7 @@ public class LineAndPointRenderer<FormatterType extends LineAndPointFormatter> e
                         plotArea.height(),
                         true);
                 originPix += plotArea.top;
+                fillEdge = originPix;
 
                 path.lineTo(lastPoint.x, originPix);
                 path.lineTo(firstPoint.x, originPix);
@@ -237,10 +294,18 @@ public class LineAndPointRenderer<FormatterType extends LineAndPointFormatter> e
         double maxY = getPlot().getCalculatedMaxY().doubleValue();
 
         // draw each region:
-        for (RectRegion r : RectRegion.regionsWithin(formatter.getRegions().elements(), minX, maxX, minY, maxY)) {
+        RegionFillGeometry geometry = lineVertices != null ? new RegionFillGeometry() : null;
+        for (RectRegion r : formatter.getRegionsWithin(minX, maxX, minY, maxY)) {
             XYRegionFormatter f = formatter.getRegionFormatter(r);
             RectF regionRect = r.getRectF(plotArea, minX, maxX, minY, maxY);
-            if (regionRect != null) {
+            if (regionRect != null && geometry != null) {
+                RegionFillGeometry.Points polygon = geometry.intersect(lineVertices, regionRect, fillEdge);
+                if (polygon.size > 2) {
+                    Path regionPath = new Path();
+                    RegionFillGeometry.toPath(polygon, regionPath);
+                    canvas.drawPath(regionPath, f.getPaint());
+                }
+            } else if (regionRect != null) {
                 try {
                 canvas.save(Canvas.ALL_SAVE_FLAG);
                 canvas.clipPath(path);
@@ -20,9 +20,11 @@ import android.graphics.PointF;
 import android.graphics.RectF;
 import com.androidplot.LineRegion;
 import com.androidplot.util.ValPixConverter;
+import com.androidplot.util.ZHash;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * RectRegion is just a rectangle with additional methods for determining
@@ -35,6 +37,9 @@ public class RectRegion {
     LineRegion yLineRegion;
     private String label;
 
+    // structures containing this region, notified when its bounds or label change:
+    private final CopyOnWriteArrayList<ZHash<RectRegion, ?>> owners = new CopyOnWriteArrayList<>();
+
     /**
      *
      * @param minX
@@ -58,7 +63,7 @@ public class RectRegion {
     }
 
     public boolean containsValue(Number x, Number y) {
-        throw new UnsupportedOperationException("Not yet implemented.");
+        return containsDomainValue(x) && containsRangeValue(y);
     }
 
     public boolean containsDomainValue(Number value) {
@@ -169,6 +174,7 @@ public class RectRegion {
 
     public void setMinX(double minX) {
         xLineRegion.setMinVal(minX);
+        notifyOwners();
     }
 
     public Number getMaxX() {
@@ -177,6 +183,7 @@ public class RectRegion {
 
     public void setMaxX(Number maxX) {
         xLineRegion.setMaxVal(maxX);
+        notifyOwners();
     }
 
     public Number getMinY() {
@@ -185,6 +192,7 @@ public class RectRegion {
 
     public void setMinY(Number minY) {
         yLineRegion.setMinVal(minY);
+        notifyOwners();
     }
 
     public Number getMaxY() {
@@ -193,6 +201,26 @@ public class RectRegion {
 
     public void setMaxY(Number maxY) {
         yLineRegion.setMaxVal(maxY);
+        notifyOwners();
+    }
+
+    private void notifyOwners() {
+        for (ZHash<RectRegion, ?> owner : owners) {
+            owner.notifyChanged();
+        }
+    }
+
+    /**
+     * Registers a structure containing this region so that its modification count is
+     * incremented whenever this region's bounds or label change.
+     * @param owner
+     */
+    void addOwner(ZHash<RectRegion, ?> owner) {
+        owners.addIfAbsent(owner);
+    }
+
+    void removeOwner(ZHash<RectRegion, ?> owner) {
+        owners.remove(owner);
     }
 
     public String getLabel() {
@@ -201,5 +229,6 @@ public class RectRegion {
 
     public void setLabel(String label) {
         this.label = label;
+        notifyOwners();
     }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot.xy;
+
+import com.androidplot.LineRegion;
+import com.androidplot.util.IntervalTree;
+import com.androidplot.util.ZHash;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lazily maintained {@link IntervalTree} index over the {@link RectRegion} keys of a {@link ZHash},
+ * used in place of linearly scanning every region each time regions are drawn or looked up.
+ * The index is rebuilt whenever the underlying {@link ZHash} is modified, which includes changes
+ * to the bounds of the regions it contains.
+ */
+class RectRegionIndex {
+
+    private static final IntervalTree.Extractor<RectRegion> DOMAIN_EXTRACTOR =
+            new IntervalTree.Extractor<RectRegion>() {
+                @Override
+                public LineRegion getInterval(RectRegion region) {
+                    return region.xLineRegion;
+                }
+            };
+
+    private static final IntervalTree.Extractor<RectRegion> RANGE_EXTRACTOR =
+            new IntervalTree.Extractor<RectRegion>() {
+                @Override
+                public LineRegion getInterval(RectRegion region) {
+                    return region.yLineRegion;
+                }
+            };
+
+    private final ZHash<RectRegion, ?> regions;
+    private IntervalTree<RectRegion> domainTree;
+    private IntervalTree<RectRegion> rangeTree;
+    private int indexedModCount;
+
+    RectRegionIndex(ZHash<RectRegion, ?> regions) {
+        this.regions = regions;
+    }
+
+    private void refresh() {
+        synchronized (regions) {
+            if (domainTree == null || indexedModCount != regions.getModCount()) {
+                List<RectRegion> elements = regions.elements();
+                domainTree = new IntervalTree<>(elements, DOMAIN_EXTRACTOR);
+                rangeTree = new IntervalTree<>(elements, RANGE_EXTRACTOR);
+                indexedModCount = regions.getModCount();
+            }
+        }
+    }
+
+    /**
+     * Equivalent to {@link RectRegion#regionsWithin(List, Number, Number, Number, Number)}
+     * invoked on the indexed regions.  A null value for any parameter represents infinity / no boundary.
+     * @param minX
+     * @param maxX
+     * @param minY
+     * @param maxY
+     * @return Regions intersecting the specified area, in z-order.
+     */
+    synchronized List<RectRegion> regionsWithin(Number minX, Number maxX, Number minY, Number maxY) {
+        refresh();
+        double minYVal = minY != null ? minY.doubleValue() : Double.NEGATIVE_INFINITY;
+        double maxYVal = maxY != null ? maxY.doubleValue() : Double.POSITIVE_INFINITY;
+        List<RectRegion> candidates = domainTree.findOverlapping(
+                minX != null ? minX.doubleValue() : Double.NEGATIVE_INFINITY,
+                maxX != null ? maxX.doubleValue() : Double.POSITIVE_INFINITY);
+        List<RectRegion> result = new ArrayList<>(candidates.size());
+        for (RectRegion r : candidates) {
+            if (r.getMinY().doubleValue() <= maxYVal && r.getMaxY().doubleValue() >= minYVal) {
+                result.add(r);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param x
+     * @param y
+     * @return The first region, in z-order, containing both x and y or null if there is none.
+     */
+    synchronized RectRegion firstContaining(double x, double y) {
+        refresh();
+        for (RectRegion r : domainTree.findContaining(x)) {
+            if (r.containsRangeValue(y)) {
+                return r;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param x
+     * @return The first region, in z-order, containing the domain value x or null if there is none.
+     */
+    synchronized RectRegion firstContainingDomainValue(double x) {
+        refresh();
+        return domainTree.findFirstContaining(x);
+    }
+
+    /**
+     * @param y
+     * @return The first region, in z-order, containing the range value y or null if there is none.
+     */
+    synchronized RectRegion firstContainingRangeValue(double y) {
+        refresh();
+        return rangeTree.findFirstContaining(y);
+    }
+}
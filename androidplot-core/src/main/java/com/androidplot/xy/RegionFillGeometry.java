@@ -0,0 +1,184 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot.xy;
+
+import android.graphics.Path;
+import android.graphics.RectF;
+
+/**
+ * Calculates the intersection between the filled area beneath (or above) a line and a
+ * rectangular region, for use with {@link RegionFillMode#POLYGON}.  The line is first split
+ * at the region's x bounds, after which its y values are clamped between the region's y bounds
+ * and the fill edge to produce the upper and lower boundaries of the intersection.
+ */
+class RegionFillGeometry {
+
+    /**
+     * A simple growable list of points stored as primitives.
+     */
+    static class Points {
+        float[] xs = new float[16];
+        float[] ys = new float[16];
+        int size;
+
+        void add(float x, float y) {
+            if (size == xs.length) {
+                float[] newXs = new float[size * 2];
+                float[] newYs = new float[size * 2];
+                System.arraycopy(xs, 0, newXs, 0, size);
+                System.arraycopy(ys, 0, newYs, 0, size);
+                xs = newXs;
+                ys = newYs;
+            }
+            xs[size] = x;
+            ys[size] = y;
+            size++;
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+
+    private final Points clipped = new Points();
+    private final Points polygon = new Points();
+
+    /**
+     * Calculates the polygon where the area between line and edge intersects region.
+     * @param line Vertices of the line, in pixels, ordered by x.
+     * @param region The region, in pixels.
+     * @param edge Y pixel value of the edge the line's fill area is closed against.
+     * @return The intersection polygon.  Contains fewer than three points if there is no intersection.
+     */
+    Points intersect(Points line, RectF region, float edge) {
+        float left = Math.min(region.left, region.right);
+        float right = Math.max(region.left, region.right);
+        float top = Math.min(region.top, region.bottom);
+        float bottom = Math.max(region.top, region.bottom);
+
+        clipX(line, left, right);
+        polygon.clear();
+        if (clipped.size < 2) {
+            return polygon;
+        }
+
+        // the fill at any x spans from min(y, edge) to max(y, edge); the upper boundary of
+        // the intersection is therefore y clamped to [top, min(edge, bottom)] and the lower
+        // boundary is y clamped to [max(edge, top), bottom]:
+        float upperMax = Math.max(top, Math.min(edge, bottom));
+        float lowerMin = Math.min(bottom, Math.max(edge, top));
+        addClamped(clipped, top, upperMax, false);
+        addClamped(clipped, lowerMin, bottom, true);
+        return polygon;
+    }
+
+    /**
+     * Appends points to path as a closed polygon.
+     * @param points
+     * @param path
+     */
+    static void toPath(Points points, Path path) {
+        path.moveTo(points.xs[0], points.ys[0]);
+        for (int i = 1; i < points.size; i++) {
+            path.lineTo(points.xs[i], points.ys[i]);
+        }
+        path.close();
+    }
+
+    /**
+     * Split each segment of line at left and right, keeping only the portion in between.
+     */
+    private void clipX(Points line, float left, float right) {
+        clipped.clear();
+        for (int i = 0; i < line.size - 1; i++) {
+            float ax = line.xs[i];
+            float ay = line.ys[i];
+            float dx = line.xs[i + 1] - ax;
+            float dy = line.ys[i + 1] - ay;
+            float t0 = 0;
+            float t1 = 1;
+            if (dx == 0) {
+                if (ax < left || ax > right) {
+                    continue;
+                }
+            } else {
+                float tLeft = (left - ax) / dx;
+                float tRight = (right - ax) / dx;
+                t0 = Math.max(t0, Math.min(tLeft, tRight));
+                t1 = Math.min(t1, Math.max(tLeft, tRight));
+                if (t0 > t1) {
+                    continue;
+                }
+            }
+            float x0 = ax + t0 * dx;
+            float y0 = ay + t0 * dy;
+            if (clipped.size == 0 || clipped.xs[clipped.size - 1] != x0 ||
+                    clipped.ys[clipped.size - 1] != y0) {
+                clipped.add(x0, y0);
+            }
+            clipped.add(ax + t1 * dx, ay + t1 * dy);
+        }
+    }
+
+    /**
+     * Append the points of line to the polygon with y clamped to [min, max], inserting an
+     * additional vertex wherever a segment crosses min or max.
+     */
+    private void addClamped(Points line, float min, float max, boolean reverse) {
+        int last = line.size - 1;
+        for (int j = 0; j < last; j++) {
+            int a = reverse ? last - j : j;
+            int b = reverse ? a - 1 : a + 1;
+            float ax = line.xs[a];
+            float ay = line.ys[a];
+            float dx = line.xs[b] - ax;
+            float dy = line.ys[b] - ay;
+            polygon.add(ax, clamp(ay, min, max));
+
+            float tMin = crossing(ay, dy, min);
+            float tMax = crossing(ay, dy, max);
+            if (tMin > tMax) {
+                float tmp = tMin;
+                tMin = tMax;
+                tMax = tmp;
+            }
+            if (tMin > 0 && tMin < 1) {
+                polygon.add(ax + tMin * dx, clamp(ay + tMin * dy, min, max));
+            }
+            if (tMax > 0 && tMax < 1) {
+                polygon.add(ax + tMax * dx, clamp(ay + tMax * dy, min, max));
+            }
+        }
+        int end = reverse ? 0 : last;
+        polygon.add(line.xs[end], clamp(line.ys[end], min, max));
+    }
+
+    /**
+     * @return The parametric position along a segment starting at y with length dy at which
+     * it crosses value, or -1 if it does not.
+     */
+    private static float crossing(float y, float dy, float value) {
+        if (dy == 0) {
+            return -1;
+        }
+        return (value - y) / dy;
+    }
+
+    private static float clamp(float value, float min, float max) {
+        return value < min ? min : value > max ? max : value;
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot.xy;
+
+/**
+ * Defines how {@link RectRegion} highlights are masked against the filled area of a line.
+ *
+ * CLIP - Clip the canvas to the line's fill path and draw the region's rect.  Works with any
+ * series but path clipping is expensive, particularly when rendering in software.
+ * POLYGON - Calculate the polygon where the line's fill area and the region intersect and draw it
+ * directly, without clipping.  Much faster, but requires that the series' x values are ordered
+ * (ascending or descending).
+ * @since 0.9.8
+ */
+public enum RegionFillMode {
+    CLIP,
+    POLYGON
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot.xy;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.PorterDuff;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import com.androidplot.Plot;
+import com.androidplot.exception.PlotRenderException;
+import com.androidplot.ui.RenderStack;
+import com.androidplot.ui.SeriesRenderer;
+import com.androidplot.util.PlotExecutors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Rasterizes independent series concurrently, each into its own offscreen layer, and then
+ * composites the layers back onto the target canvas in {@link RenderStack} order so that the
+ * result is identical to rendering sequentially.
+ *
+ * Series drawn by a {@link GroupRenderer} depend on the other series sharing their renderer
+ * (stacking, grouping etc.) and manipulate the render stack, so they are always rendered directly
+ * onto the target canvas on the calling thread.
+ *
+ * Each layer is an ARGB_8888 bitmap covering the clipped plot area, eg. roughly 8MB for a
+ * 1080p plot.  At most maxLayers layers exist at once; once all are in use, earlier layers are
+ * composited and reused before later series are rasterized.
+ */
+class SeriesLayerCompositor {
+
+    private static ExecutorService sharedExecutor;
+
+    private final ExecutorService executor;
+    private final int maxLayers;
+    private final List<Layer> layers = new ArrayList<>();
+    private final Rect clipBounds = new Rect();
+    private final RectF layerRect = new RectF();
+    private final Rect srcRect = new Rect();
+
+    private static class Layer {
+        private Bitmap bitmap;
+        private Canvas canvas;
+
+        /**
+         * Readies the layer to receive at least width x height pixels.  The bitmap is only
+         * reallocated when it grows so that a varying clip (strip chart mode) does not allocate
+         * every frame.
+         */
+        void prepare(int width, int height) {
+            if(bitmap == null || bitmap.getWidth() < width || bitmap.getHeight() < height) {
+                final int w = bitmap == null ? width : Math.max(width, bitmap.getWidth());
+                final int h = bitmap == null ? height : Math.max(height, bitmap.getHeight());
+                bitmap = Bitmap.createBitmap(w, h, Bitmap.Config.ARGB_8888);
+                canvas = new Canvas(bitmap);
+            } else {
+                canvas.drawColor(Color.TRANSPARENT, PorterDuff.Mode.CLEAR);
+            }
+        }
+    }
+
+    private static synchronized ExecutorService getSharedExecutor() {
+        if(sharedExecutor == null) {
+            sharedExecutor = PlotExecutors.newFixedThreadPool(
+                    PlotExecutors.getParallelism(), "Androidplot Series Renderer");
+        }
+        return sharedExecutor;
+    }
+
+    SeriesLayerCompositor() {
+        // enough to keep every worker busy while the calling thread composites:
+        this(getSharedExecutor(), PlotExecutors.getParallelism() + 1);
+    }
+
+    /**
+     * @param executor
+     * @param maxLayers Maximum number of layers, and therefore series, rasterized at once.
+     */
+    SeriesLayerCompositor(ExecutorService executor, int maxLayers) {
+        if(maxLayers < 1) {
+            throw new IllegalArgumentException("maxLayers must be greater than 0.");
+        }
+        this.executor = executor;
+        this.maxLayers = maxLayers;
+    }
+
+    /**
+     * Renders each enabled element of stack onto canvas.  Only the part of each layer that
+     * intersects both the canvas' current clip and clipRect is rasterized.
+     * @param canvas
+     * @param plot
+     * @param stack A stack that has already been synced.
+     * @param plotArea
+     * @param clipRect
+     * @param skipSweepSeries If true, instances of {@link SweepSeries} are not rendered.
+     * @throws PlotRenderException
+     */
+    void draw(Canvas canvas, Plot plot, RenderStack stack, final RectF plotArea, RectF clipRect,
+              boolean skipSweepSeries) throws PlotRenderException {
+        layerRect.set(clipRect);
+        // canvases that do not report a clip get layers covering all of clipRect:
+        if(canvas.getClipBounds(clipBounds) && !layerRect.intersect(clipBounds.left,
+                clipBounds.top, clipBounds.right, clipBounds.bottom)) {
+            return;
+        }
+        final float left = layerRect.left;
+        final float top = layerRect.top;
+        final int width = (int) Math.ceil(layerRect.width());
+        final int height = (int) Math.ceil(layerRect.height());
+        layerRect.right = left + width;
+        layerRect.bottom = top + height;
+        if(width <= 0 || height <= 0) {
+            return;
+        }
+
+        srcRect.set(0, 0, width, height);
+        final List<RenderStack.StackElement> elements = stack.getElements();
+        final List<Future<Bitmap>> pending = new ArrayList<>(elements.size());
+        // elements before this index have been composited:
+        int composited = 0;
+        try {
+            // layers are handed out and freed in stack order, so they are used round robin:
+            int layersSubmitted = 0;
+            int layersInUse = 0;
+            for (RenderStack.StackElement element : elements) {
+                Future<Bitmap> future = null;
+                final SeriesRenderer renderer = rendererFor(plot, element);
+                if (element.isEnabled() && !skip(element, skipSweepSeries)
+                        && !(renderer instanceof GroupRenderer)) {
+                    // free the oldest layer by compositing everything up to and including it:
+                    while (layersInUse == maxLayers) {
+                        if (composite(canvas, plot, stack, plotArea, elements, pending,
+                                composited++, skipSweepSeries)) {
+                            layersInUse--;
+                        }
+                    }
+                    final Layer layer = obtainLayer(layersSubmitted++ % maxLayers);
+                    layer.prepare(width, height);
+                    future = submit(layer, renderer, element, stack, plotArea, left, top);
+                    layersInUse++;
+                }
+                pending.add(future);
+            }
+
+            while (composited < elements.size()) {
+                composite(canvas, plot, stack, plotArea, elements, pending, composited++,
+                        skipSweepSeries);
+            }
+        } finally {
+            // layers are reused so make sure no worker is still drawing into one before returning:
+            for (int i = composited; i < pending.size(); i++) {
+                final Future<Bitmap> future = pending.get(i);
+                if (future != null) {
+                    try {
+                        future.get();
+                    } catch (Exception ignored) {}
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws the element at index onto canvas, either by compositing its layer or, if it
+     * was not rasterized into one, by rendering it directly.
+     * @return True if the element's layer was composited, freeing it for reuse.
+     */
+    private boolean composite(Canvas canvas, Plot plot, RenderStack stack, RectF plotArea,
+                              List<RenderStack.StackElement> elements,
+                              List<Future<Bitmap>> pending, int index,
+                              boolean skipSweepSeries) throws PlotRenderException {
+        final RenderStack.StackElement element = elements.get(index);
+        final Future<Bitmap> future = pending.get(index);
+        if (future != null) {
+            canvas.drawBitmap(await(future), srcRect, layerRect, null);
+            return true;
+        } else if (element.isEnabled() && !skip(element, skipSweepSeries)) {
+            rendererFor(plot, element).render(canvas, plotArea, element.get(), stack);
+        }
+        return false;
+    }
+
+    /**
+     * Frees all layer bitmaps.  They are recreated on the next draw.
+     */
+    void release() {
+        layers.clear();
+    }
+
+    int getLayerCount() {
+        return layers.size();
+    }
+
+    private static boolean skip(RenderStack.StackElement element, boolean skipSweepSeries) {
+        return skipSweepSeries && element.get().getSeries() instanceof SweepSeries;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SeriesRenderer rendererFor(Plot plot, RenderStack.StackElement element) {
+        return plot.getRenderer(element.get().getFormatter().getRendererClass());
+    }
+
+    private Layer obtainLayer(int index) {
+        if(index < layers.size()) {
+            return layers.get(index);
+        }
+        final Layer layer = new Layer();
+        layers.add(layer);
+        return layer;
+    }
+
+    private Future<Bitmap> submit(final Layer layer, final SeriesRenderer renderer,
+                                  final RenderStack.StackElement element, final RenderStack stack,
+                                  final RectF plotArea, final float left, final float top) {
+        return executor.submit(new Callable<Bitmap>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public Bitmap call() throws Exception {
+                layer.canvas.save(Canvas.MATRIX_SAVE_FLAG);
+                try {
+                    layer.canvas.translate(-left, -top);
+                    renderer.render(layer.canvas, plotArea, element.get(), stack);
+                } finally {
+                    layer.canvas.restore();
+                }
+                return layer.bitmap;
+            }
+        });
+    }
+
+    private static Bitmap await(Future<Bitmap> future) throws PlotRenderException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PlotRenderException("Interrupted while rendering series layers.");
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if(cause instanceof PlotRenderException) {
+                throw (PlotRenderException) cause;
+            } else if(cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if(cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new PlotRenderException("Failed to render series layer: " + cause);
+        }
+    }
+}
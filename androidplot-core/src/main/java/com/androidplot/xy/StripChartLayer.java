@@ -0,0 +1,196 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot.xy;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.PorterDuff;
+import android.graphics.RectF;
+import com.androidplot.exception.PlotRenderException;
+import com.androidplot.util.PixelUtils;
+import com.androidplot.util.RectFUtils;
+
+/**
+ * Retains rendered series data between frames for {@link DataRenderMode#STRIP_CHART}.
+ * Each frame the retained data is shifted by the number of whole pixels the domain window
+ * has moved and only the newly exposed strip, plus a small seam to repair line joins and strokes
+ * that straddle the edge of the strip, is rendered.
+ * <p>
+ * Only rasterization is limited to the strip: the strip is rendered by clipping a normal
+ * {@link XYGraphWidget#drawSeries(Canvas)} pass, so renderers still iterate and transform every
+ * point of every series each frame.  The savings are therefore in fill rate, not in per point
+ * work, and plots whose frame time is dominated by the number of points see little benefit.
+ * The grid and axes are not retained and are drawn in full every frame.
+ */
+class StripChartLayer {
+
+    private static final float SEAM_DP = 4;
+
+    // tolerance used when comparing domain widths, which are subject to rounding error:
+    private static final double SPAN_TOLERANCE = 1e-9;
+
+    private final XYGraphWidget graphWidget;
+    private Bitmap front;
+    private Bitmap back;
+    private Canvas frontCanvas;
+    private Canvas backCanvas;
+
+    // the area re-rendered during the last frame, in screen coordinates:
+    private final RectF dirtyRect = new RectF();
+    private boolean lastDrawWasFull;
+
+    // state that the retained data was rendered against:
+    private RectF lastLayerRect;
+    private RectF lastDataRect;
+    private double renderedMinX;
+    private double lastSpan;
+    private double lastMinY;
+    private double lastMaxY;
+    private int lastSeriesModCount;
+    private boolean invalid = true;
+
+    StripChartLayer(XYGraphWidget graphWidget) {
+        this.graphWidget = graphWidget;
+    }
+
+    /**
+     * Forces the next frame to be fully rendered.
+     */
+    void invalidate() {
+        invalid = true;
+    }
+
+    /**
+     * Frees the retained bitmaps.  They are recreated on the next draw.
+     */
+    void release() {
+        front = null;
+        back = null;
+        frontCanvas = null;
+        backCanvas = null;
+        invalid = true;
+    }
+
+    RectF getDirtyRect() {
+        return dirtyRect;
+    }
+
+    boolean isLastDrawFull() {
+        return lastDrawWasFull;
+    }
+
+    /**
+     * @param canvas Canvas to draw the retained data onto.
+     * @param layerRect Area series data is clipped to.
+     * @param dataRect Area series data is scaled to.
+     * @param plot
+     * @throws PlotRenderException
+     */
+    void draw(Canvas canvas, RectF layerRect, RectF dataRect, XYPlot plot) throws PlotRenderException {
+        final int width = (int) Math.ceil(layerRect.width());
+        final int height = (int) Math.ceil(layerRect.height());
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+
+        final double minX = plot.getCalculatedMinX().doubleValue();
+        final double span = plot.getCalculatedMaxX().doubleValue() - minX;
+        final double minY = plot.getCalculatedMinY().doubleValue();
+        final double maxY = plot.getCalculatedMaxY().doubleValue();
+        final int seriesModCount = plot.getSeriesRegistry().getModCount();
+        final double pixPerVal = dataRect.width() / span;
+
+        boolean full = invalid || front == null
+                || front.getWidth() != width || front.getHeight() != height
+                || !RectFUtils.areIdentical(layerRect, lastLayerRect)
+                || !RectFUtils.areIdentical(dataRect, lastDataRect)
+                || minY != lastMinY || maxY != lastMaxY
+                || Math.abs(span - lastSpan) > Math.abs(span) * SPAN_TOLERANCE
+                || seriesModCount != lastSeriesModCount;
+
+        int shift = 0;
+        if (!full) {
+            // positive when the domain window moved left, negative when it moved right:
+            shift = (int) Math.round((renderedMinX - minX) * pixPerVal);
+            if (Math.abs(shift) >= width) {
+                full = true;
+            }
+        }
+
+        if (full) {
+            if (front == null || front.getWidth() != width || front.getHeight() != height) {
+                front = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+                back = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+                frontCanvas = new Canvas(front);
+                backCanvas = new Canvas(back);
+            }
+            renderedMinX = minX;
+            dirtyRect.set(layerRect);
+        } else {
+            if (shift != 0) {
+                back.eraseColor(Color.TRANSPARENT);
+                backCanvas.drawBitmap(front, shift, 0, null);
+                swap();
+
+                // only whole pixels are shifted; carry the remainder over to the next frame:
+                renderedMinX -= shift / pixPerVal;
+            }
+            float seam = PixelUtils.dpToPix(SEAM_DP);
+            if (shift > 0) {
+                dirtyRect.set(layerRect.left, layerRect.top,
+                        Math.min(layerRect.right, layerRect.left + shift + seam), layerRect.bottom);
+            } else {
+                dirtyRect.set(Math.max(layerRect.left, layerRect.right + shift - seam), layerRect.top,
+                        layerRect.right, layerRect.bottom);
+            }
+        }
+
+        render(layerRect);
+        lastDrawWasFull = full;
+        lastLayerRect = new RectF(layerRect);
+        lastDataRect = new RectF(dataRect);
+        lastSpan = span;
+        lastMinY = minY;
+        lastMaxY = maxY;
+        lastSeriesModCount = seriesModCount;
+        invalid = false;
+
+        canvas.drawBitmap(front, layerRect.left, layerRect.top, null);
+    }
+
+    private void render(RectF layerRect) throws PlotRenderException {
+        frontCanvas.save(Canvas.ALL_SAVE_FLAG);
+        try {
+            frontCanvas.translate(-layerRect.left, -layerRect.top);
+            frontCanvas.clipRect(dirtyRect);
+            frontCanvas.drawColor(Color.TRANSPARENT, PorterDuff.Mode.CLEAR);
+            graphWidget.drawSeries(frontCanvas);
+        } finally {
+            frontCanvas.restore();
+        }
+    }
+
+    private void swap() {
+        Bitmap bitmap = front;
+        front = back;
+        back = bitmap;
+        Canvas c = frontCanvas;
+        frontCanvas = backCanvas;
+        backCanvas = c;
+    }
+}
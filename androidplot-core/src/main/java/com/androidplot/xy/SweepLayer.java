@@ -0,0 +1,308 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot.xy;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.PorterDuff;
+import android.graphics.RectF;
+import com.androidplot.ui.SeriesAndFormatter;
+import com.androidplot.util.PixelUtils;
+import com.androidplot.util.RectFUtils;
+import com.androidplot.util.ValPixConverter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Retains rendered {@link SweepSeries} data between frames for {@link DataRenderMode#SWEEP}.
+ * Each frame only the columns between each series' previous and current cursor positions, along with
+ * the erase band that precedes the cursor, are cleared and rendered, so the cost of a frame is
+ * proportional to the number of new samples rather than the size of the domain.
+ *
+ * Series are drawn as lines and vertices using the line and vertex paints of their
+ * {@link LineAndPointFormatter}; fills, regions and interpolation are not supported.
+ * When multiple series are swept they are expected to be fed at the same rate.
+ */
+class SweepLayer {
+
+    private static final float DEFAULT_ERASE_BAND_DP = 8;
+
+    private final List<RectF> dirtyRects = new ArrayList<>();
+    private final Map<SweepSeries, Long> renderedCounts = new HashMap<>();
+    private Bitmap bitmap;
+    private Canvas bitmapCanvas;
+    private Float eraseBandWidth;
+
+    // state that the retained data was rendered against:
+    private RectF lastLayerRect;
+    private RectF lastDataRect;
+    private double lastMinX;
+    private double lastMaxX;
+    private double lastMinY;
+    private double lastMaxY;
+    private int lastSeriesModCount;
+    private boolean invalid = true;
+
+    // per-frame state:
+    private RectF layerRect;
+    private RectF dataRect;
+    private double minX;
+    private double maxX;
+    private double minY;
+    private double maxY;
+
+    void invalidate() {
+        invalid = true;
+    }
+
+    void release() {
+        bitmap = null;
+        bitmapCanvas = null;
+        invalid = true;
+    }
+
+    /**
+     * @return Width of the erase band preceding the cursor, in pixels.
+     */
+    float getEraseBandWidth() {
+        if(eraseBandWidth == null) {
+            eraseBandWidth = PixelUtils.dpToPix(DEFAULT_ERASE_BAND_DP);
+        }
+        return eraseBandWidth;
+    }
+
+    void setEraseBandWidth(float eraseBandWidth) {
+        this.eraseBandWidth = eraseBandWidth;
+        invalid = true;
+    }
+
+    /**
+     * @return The column spans rendered during the last frame, in screen coordinates.
+     */
+    List<RectF> getDirtyRects() {
+        return dirtyRects;
+    }
+
+    void draw(Canvas canvas, RectF layerRect, RectF dataRect, XYPlot plot) {
+        final int width = (int) Math.ceil(layerRect.width());
+        final int height = (int) Math.ceil(layerRect.height());
+        dirtyRects.clear();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        this.layerRect = layerRect;
+        this.dataRect = dataRect;
+        minX = plot.getCalculatedMinX().doubleValue();
+        maxX = plot.getCalculatedMaxX().doubleValue();
+        minY = plot.getCalculatedMinY().doubleValue();
+        maxY = plot.getCalculatedMaxY().doubleValue();
+        final int seriesModCount = plot.getSeriesRegistry().getModCount();
+
+        boolean full = invalid || bitmap == null
+                || bitmap.getWidth() != width || bitmap.getHeight() != height
+                || !RectFUtils.areIdentical(layerRect, lastLayerRect)
+                || !RectFUtils.areIdentical(dataRect, lastDataRect)
+                || minX != lastMinX || maxX != lastMaxX || minY != lastMinY || maxY != lastMaxY
+                || seriesModCount != lastSeriesModCount;
+
+        List<SeriesAndFormatter<SweepSeries, LineAndPointFormatter>> sweeps = getSweepSeries(plot);
+        List<float[]> spans = new ArrayList<>();
+        Map<SweepSeries, Long> counts = new HashMap<>(sweeps.size());
+        for (SeriesAndFormatter<SweepSeries, LineAndPointFormatter> sf : sweeps) {
+            SweepSeries series = sf.getSeries();
+            long count = series.getSampleCount();
+            counts.put(series, count);
+            if (!full) {
+                Long rendered = renderedCounts.get(series);
+                if (rendered == null || count < rendered || (count - rendered) *
+                        getPixPerSample() >= layerRect.width() - getEraseBandWidth()) {
+                    full = true;
+                } else if (count > rendered) {
+                    addSpans(spans, series.getCapacity(), rendered, count);
+                }
+            }
+        }
+
+        if (full) {
+            if (bitmap == null || bitmap.getWidth() != width || bitmap.getHeight() != height) {
+                bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+                bitmapCanvas = new Canvas(bitmap);
+            }
+            spans.clear();
+            spans.add(new float[]{layerRect.left, layerRect.right});
+        }
+
+        for (float[] span : mergeSpans(spans)) {
+            renderSpan(span[0], span[1], sweeps);
+        }
+
+        renderedCounts.clear();
+        renderedCounts.putAll(counts);
+        lastLayerRect = new RectF(layerRect);
+        lastDataRect = new RectF(dataRect);
+        lastMinX = minX;
+        lastMaxX = maxX;
+        lastMinY = minY;
+        lastMaxY = maxY;
+        lastSeriesModCount = seriesModCount;
+        invalid = false;
+
+        canvas.drawBitmap(bitmap, layerRect.left, layerRect.top, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<SeriesAndFormatter<SweepSeries, LineAndPointFormatter>> getSweepSeries(XYPlot plot) {
+        List<SeriesAndFormatter<SweepSeries, LineAndPointFormatter>> result = new ArrayList<>();
+        for (SeriesAndFormatter sf : plot.getSeriesRegistry()) {
+            if (sf.getSeries() instanceof SweepSeries && sf.getFormatter() instanceof LineAndPointFormatter) {
+                result.add(sf);
+            }
+        }
+        return result;
+    }
+
+    private float getPixPerSample() {
+        return (float) (dataRect.width() / (maxX - minX));
+    }
+
+    private float toPixX(double x) {
+        return dataRect.left + ValPixConverter.valToPix(x, minX, maxX, dataRect.width(), false);
+    }
+
+    private float toPixY(double y) {
+        return dataRect.top + ValPixConverter.valToPix(y, minY, maxY, dataRect.height(), true);
+    }
+
+    /**
+     * Adds the column spans covering the movement of a series' cursor from the last
+     * rendered sample to the newest sample, plus the erase band in front of it.
+     */
+    private void addSpans(List<float[]> spans, int capacity, long renderedCount, long count) {
+        final float band = getEraseBandWidth();
+        final float start = renderedCount == 0 ? layerRect.left : toPixX((renderedCount - 1) % capacity);
+        final long newest = (count - 1) % capacity;
+        float end = toPixX(newest) + band;
+        boolean wrapped = renderedCount == 0 ? count > capacity :
+                (count - 1) / capacity != (renderedCount - 1) / capacity;
+        if (wrapped) {
+            spans.add(new float[]{start, layerRect.right});
+            spans.add(new float[]{layerRect.left, end});
+        } else {
+            spans.add(new float[]{start, end});
+        }
+
+        // the erase band wraps around to the left edge:
+        if (end > layerRect.right) {
+            spans.add(new float[]{layerRect.left, layerRect.left + end - layerRect.right});
+        }
+    }
+
+    private List<float[]> mergeSpans(List<float[]> spans) {
+        List<float[]> merged = new ArrayList<>(spans.size());
+        for (float[] span : spans) {
+            float x0 = Math.max(layerRect.left, Math.min(span[0], span[1]));
+            float x1 = Math.min(layerRect.right, Math.max(span[0], span[1]));
+            if (x0 >= x1) {
+                continue;
+            }
+            boolean absorbed = false;
+            for (float[] m : merged) {
+                if (x0 <= m[1] && x1 >= m[0]) {
+                    m[0] = Math.min(m[0], x0);
+                    m[1] = Math.max(m[1], x1);
+                    absorbed = true;
+                    break;
+                }
+            }
+            if (!absorbed) {
+                merged.add(new float[]{x0, x1});
+            }
+        }
+        return merged;
+    }
+
+    private void renderSpan(float x0, float x1,
+                            List<SeriesAndFormatter<SweepSeries, LineAndPointFormatter>> sweeps) {
+        bitmapCanvas.save(Canvas.ALL_SAVE_FLAG);
+        try {
+            bitmapCanvas.translate(-layerRect.left, -layerRect.top);
+            bitmapCanvas.clipRect(x0, layerRect.top, x1, layerRect.bottom);
+            bitmapCanvas.drawColor(Color.TRANSPARENT, PorterDuff.Mode.CLEAR);
+            for (SeriesAndFormatter<SweepSeries, LineAndPointFormatter> sf : sweeps) {
+                renderSamples(bitmapCanvas, sf.getSeries(), sf.getFormatter(), x0, x1);
+            }
+        } finally {
+            bitmapCanvas.restore();
+        }
+        dirtyRects.add(new RectF(x0, layerRect.top, x1, layerRect.bottom));
+    }
+
+    /**
+     * Draws the segments and vertices of series that fall between x0 and x1.
+     */
+    private void renderSamples(Canvas canvas, SweepSeries series, LineAndPointFormatter formatter,
+                               float x0, float x1) {
+        final Paint linePaint = formatter.getLinePaint();
+        final Paint vertexPaint = formatter.getVertexPaint();
+        final float pixPerSample = getPixPerSample();
+        final int capacity = series.getCapacity();
+
+        // include enough samples either side of the span to cover strokes that bleed into it:
+        float stroke = Math.max(linePaint != null ? linePaint.getStrokeWidth() : 0,
+                vertexPaint != null ? vertexPaint.getStrokeWidth() : 0);
+        int margin = 1 + (int) Math.ceil(stroke / pixPerSample);
+        int first = Math.max(0, (int) Math.floor(ValPixConverter.pixToVal(
+                x0 - dataRect.left, minX, maxX, dataRect.width(), false)) - margin);
+        int last = Math.min(capacity - 1, (int) Math.ceil(ValPixConverter.pixToVal(
+                x1 - dataRect.left, minX, maxX, dataRect.width(), false)) + margin);
+        int bandSamples = (int) Math.ceil(getEraseBandWidth() / pixPerSample);
+
+        synchronized (series) {
+            final int cursor = series.getCursor();
+            for (int i = first; i <= last; i++) {
+                if (!isVisible(series, i, cursor, bandSamples, capacity)) {
+                    continue;
+                }
+                float x = toPixX(i);
+                float y = toPixY(series.getSample(i));
+                if (linePaint != null && i < capacity - 1 && i != cursor
+                        && isVisible(series, i + 1, cursor, bandSamples, capacity)) {
+                    canvas.drawLine(x, y, toPixX(i + 1), toPixY(series.getSample(i + 1)), linePaint);
+                }
+                if (vertexPaint != null) {
+                    canvas.drawPoint(x, y, vertexPaint);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return True if a sample exists at position and it does not fall within the erase band.
+     */
+    private static boolean isVisible(SweepSeries series, int position, int cursor, int bandSamples, int capacity) {
+        if (!series.isWritten(position)) {
+            return false;
+        }
+        int distanceAhead = (position - cursor + capacity) % capacity;
+        return distanceAhead == 0 || distanceAhead > bandSamples;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot.xy;
+
+/**
+ * A fixed capacity ring buffer of samples for use with {@link DataRenderMode#SWEEP}.  The x value
+ * of each sample is its position within the buffer; once the buffer is full each new sample
+ * overwrites the oldest one, at the position following the previous sample.  Typically used with
+ * domain boundaries fixed at 0 and {@link #getCapacity()} - 1.
+ * @since 0.9.8
+ */
+public class SweepSeries implements XYSeries {
+
+    private final double[] samples;
+    private volatile String title;
+    private long sampleCount;
+
+    public SweepSeries(String title, int capacity) {
+        if(capacity < 2) {
+            throw new IllegalArgumentException("Capacity must be at least 2.");
+        }
+        this.title = title;
+        this.samples = new double[capacity];
+    }
+
+    /**
+     * Writes a sample at the current cursor position and advances the cursor.
+     * @param y
+     */
+    public synchronized void addSample(Number y) {
+        samples[(int) (sampleCount % samples.length)] = y.doubleValue();
+        sampleCount++;
+    }
+
+    /**
+     * Removes all samples and returns the cursor to the start of the buffer.
+     */
+    public synchronized void clear() {
+        sampleCount = 0;
+    }
+
+    public int getCapacity() {
+        return samples.length;
+    }
+
+    /**
+     * @return Total number of samples added since creation or the last call to {@link #clear()}.
+     */
+    public synchronized long getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * @return Position of the most recently added sample, or -1 if there is none.
+     */
+    public synchronized int getCursor() {
+        return sampleCount == 0 ? -1 : (int) ((sampleCount - 1) % samples.length);
+    }
+
+    /**
+     * Intended for use by renderers that already hold this series' lock.
+     * @param position
+     * @return True if a sample has been written at position.
+     */
+    boolean isWritten(int position) {
+        return position < sampleCount;
+    }
+
+    /**
+     * Intended for use by renderers that already hold this series' lock.
+     * @param position
+     * @return The sample at position.
+     */
+    double getSample(int position) {
+        return samples[position];
+    }
+
+    @Override
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    @Override
+    public int size() {
+        return samples.length;
+    }
+
+    @Override
+    public Number getX(int index) {
+        return index;
+    }
+
+    @Override
+    public synchronized Number getY(int index) {
+        return isWritten(index) ? samples[index] : null;
+    }
+}
@@ -44,6 +44,21 @@ public class XYConstraints {
         this(null, null, null, null);
     }
 
+    /**
+     * Copy constructor.
+     * @param c
+     * @since 0.9.8
+     */
+    public XYConstraints(XYConstraints c) {
+        this(c.minX, c.maxX, c.minY, c.maxY);
+        domainFramingModel = c.domainFramingModel;
+        rangeFramingModel = c.rangeFramingModel;
+        domainUpperBoundaryMode = c.domainUpperBoundaryMode;
+        domainLowerBoundaryMode = c.domainLowerBoundaryMode;
+        rangeUpperBoundaryMode = c.rangeUpperBoundaryMode;
+        rangeLowerBoundaryMode = c.rangeLowerBoundaryMode;
+    }
+
     public XYConstraints(Number minX, Number maxX, Number minY, Number maxY) {
         this.minX = minX;
         this.minY = minY;
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.androidplot.xy;
+
+import android.graphics.RectF;
+import com.androidplot.PreparedFrame;
+import com.androidplot.ui.SeriesAndFormatter;
+
+import java.util.List;
+
+/**
+ * An {@link XYPlot} frame produced by the preparation stage: the series to draw, with the data of
+ * line series replaced by {@link XYSeriesSnapshot}s, and the bounds calculated from that data.
+ */
+class XYFrame implements PreparedFrame {
+
+    private final List<SeriesAndFormatter<XYSeries, XYSeriesFormatter>> seriesAndFormatters;
+    final Number minX;
+    final Number maxX;
+    final Number minY;
+    final Number maxY;
+    final Number domainOrigin;
+    final Number rangeOrigin;
+
+    // the area pixel buffers were calculated for, or null if none were calculated:
+    private RectF plotArea;
+
+    XYFrame(List<SeriesAndFormatter<XYSeries, XYSeriesFormatter>> seriesAndFormatters,
+            Number minX, Number maxX, Number minY, Number maxY,
+            Number domainOrigin, Number rangeOrigin) {
+        this.seriesAndFormatters = seriesAndFormatters;
+        this.minX = minX;
+        this.maxX = maxX;
+        this.minY = minY;
+        this.maxY = maxY;
+        this.domainOrigin = domainOrigin;
+        this.rangeOrigin = rangeOrigin;
+    }
+
+    List<SeriesAndFormatter<XYSeries, XYSeriesFormatter>> getSeriesAndFormatters() {
+        return seriesAndFormatters;
+    }
+
+    /**
+     * Converts the data of each snapshot in this frame into pixel coordinates within plotArea.
+     * Must be called before the frame is published to the drawing stage.
+     * @param plotArea
+     */
+    void preparePixels(RectF plotArea) {
+        this.plotArea = new RectF(plotArea);
+        final double minXd = minX.doubleValue();
+        final double maxXd = maxX.doubleValue();
+        final double minYd = minY.doubleValue();
+        final double maxYd = maxY.doubleValue();
+        for (SeriesAndFormatter<XYSeries, XYSeriesFormatter> sf : seriesAndFormatters) {
+            if (sf.getSeries() instanceof XYSeriesSnapshot) {
+                ((XYSeriesSnapshot) sf.getSeries()).preparePixels(
+                        this.plotArea, minXd, maxXd, minYd, maxYd);
+            }
+        }
+    }
+
+    RectF getPlotArea() {
+        return plotArea;
+    }
+}
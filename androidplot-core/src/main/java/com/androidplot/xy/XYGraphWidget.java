@@ -28,6 +28,7 @@ import com.androidplot.util.*;
 
 import java.text.DecimalFormat;
 import java.text.Format;
+import java.util.List;
 
 /**
  * Displays graphical data (lines, points, etc.) annotated with domain and range tick markers.
@@ -107,9 +108,16 @@ public class XYGraphWidget extends Widget {
     private Mapping<Paint, Number> rangeTickLabelPaintMap;
 
     private ZHash<RectRegion, AxisValueLabelFormatter> axisValueLabelRegions;
+    private RectRegionIndex axisValueLabelRegionIndex;
 
     private RenderStack<? extends XYSeries, ? extends XYSeriesFormatter> renderStack;
 
+    private DataRenderMode dataRenderMode = DataRenderMode.STANDARD;
+    private StripChartLayer stripChartLayer;
+    private SweepLayer sweepLayer;
+    private SeriesLayerCompositor seriesLayerCompositor;
+    private Float sweepEraseBandWidth;
+
     private static final float DEFAULT_TICK_LABEL_TEXT_SIZE_PX = PixelUtils.spToPix(15); // 15sp
 
     public float getRangeLabelOrientation() {
@@ -254,6 +262,7 @@ public class XYGraphWidget extends Widget {
         rangeValueFormat = new DecimalFormat("0.0");
         domainValueFormat = new DecimalFormat("0.0");
         axisValueLabelRegions = new ZHash<>();
+        axisValueLabelRegionIndex = new RectRegionIndex(axisValueLabelRegions);
         setClippingEnabled(true);
     }
 
@@ -279,6 +288,7 @@ public class XYGraphWidget extends Widget {
     public void addAxisValueLabelRegion(RectRegion region,
             AxisValueLabelFormatter formatter) {
         axisValueLabelRegions.addToTop(region, formatter);
+        region.addOwner(axisValueLabelRegions);
     }
 
     /**
@@ -324,32 +334,21 @@ public class XYGraphWidget extends Widget {
      */
     public AxisValueLabelFormatter getAxisValueLabelFormatterForVal(double x,
             double y) {
-        for (RectRegion r : axisValueLabelRegions.elements()) {
-            if (r.containsValue(x, y)) {
-                return axisValueLabelRegions.get(r);
-            }
-        }
-        return null;
+        return getAxisValueLabelFormatter(axisValueLabelRegionIndex.firstContaining(x, y));
     }
 
     public AxisValueLabelFormatter getAxisValueLabelFormatterForDomainVal(
             double val) {
-        for (RectRegion r : axisValueLabelRegions.elements()) {
-            if (r.containsDomainValue(val)) {
-                return axisValueLabelRegions.get(r);
-            }
-        }
-        return null;
+        return getAxisValueLabelFormatter(axisValueLabelRegionIndex.firstContainingDomainValue(val));
     }
 
     public AxisValueLabelFormatter getAxisValueLabelFormatterForRangeVal(
             double val) {
-        for (RectRegion r : axisValueLabelRegions.elements()) {
-            if (r.containsRangeValue(val)) {
-                return axisValueLabelRegions.get(r);
-            }
-        }
-        return null;
+        return getAxisValueLabelFormatter(axisValueLabelRegionIndex.firstContainingRangeValue(val));
+    }
+
+    private AxisValueLabelFormatter getAxisValueLabelFormatter(RectRegion region) {
+        return region != null ? axisValueLabelRegions.get(region) : null;
     }
 
     private String getFormattedRangeValue(Number value) {
@@ -426,14 +425,38 @@ public class XYGraphWidget extends Widget {
                     && plot.getCalculatedMaxY() != null) {
                 drawGrid(canvas);
                 drawData(canvas);
-                drawCursors(canvas);
-                if (isDrawMarkersEnabled()) {
-                    drawMarkers(canvas);
+                // when display lists are enabled the plot draws these separately, above the
+                // recorded content:
+                if (!plot.isDisplayListEnabled()) {
+                    drawCursorsAndMarkers(canvas);
                 }
             }
         }
     }
 
+    /**
+     * Draws the cursors and markers using the grid dimensions of the last frame.  Invoked by
+     * {@link XYPlot} when display lists are enabled.
+     * @param canvas
+     */
+    void drawOverlays(Canvas canvas) {
+        if (gridDimensions != null && isVisible()
+                && (gridDimensions.paddedRect.height() > ZERO) && (gridDimensions.paddedRect.width() > ZERO)
+                && plot.getCalculatedMinX() != null
+                && plot.getCalculatedMaxX() != null
+                && plot.getCalculatedMinY() != null
+                && plot.getCalculatedMaxY() != null) {
+            drawCursorsAndMarkers(canvas);
+        }
+    }
+
+    private void drawCursorsAndMarkers(Canvas canvas) {
+        drawCursors(canvas);
+        if (isDrawMarkersEnabled()) {
+            drawMarkers(canvas);
+        }
+    }
+
     private void calculateGridDimensions(RectF widgetRect) {
         RectF r = new RectF(widgetRect.left + ((rangeAxisLeft) ?
                 rangeTickLabelWidth : ONE),
@@ -890,23 +913,164 @@ public class XYGraphWidget extends Widget {
      * @throws PlotRenderException
      */
     protected void drawData(Canvas canvas) throws PlotRenderException {
+        final StripChartLayer layer = stripChartLayer;
+        if(layer != null) {
+            layer.draw(canvas, gridDimensions.marginatedRect, gridDimensions.paddedRect, plot);
+            return;
+        }
+        final SweepLayer sweep = sweepLayer;
+        if(sweep != null) {
+            sweep.draw(canvas, gridDimensions.marginatedRect, gridDimensions.paddedRect, plot);
+        }
         try {
             canvas.save(Canvas.ALL_SAVE_FLAG);
             canvas.clipRect(gridDimensions.marginatedRect, android.graphics.Region.Op.INTERSECT);
+            drawSeries(canvas);
+        } finally {
+            canvas.restore();
+        }
+    }
+
+    /**
+     * Renders each enabled series onto canvas without any clipping.
+     * @param canvas
+     * @throws PlotRenderException
+     */
+    @SuppressWarnings("unchecked")
+    void drawSeries(Canvas canvas) throws PlotRenderException {
+        final XYFrame frame = plot.getDrawingFrame();
+        if(frame != null) {
+            ((RenderStack) renderStack).sync(frame.getSeriesAndFormatters());
+        } else {
             renderStack.sync();
+        }
+        final SeriesLayerCompositor compositor = seriesLayerCompositor;
+        if(compositor != null) {
+            compositor.draw(canvas, plot, renderStack, gridDimensions.paddedRect,
+                    gridDimensions.marginatedRect, sweepLayer != null);
+            return;
+        }
+        final List<? extends RenderStack.StackElement> elements = renderStack.getElements();
+        for(int i = 0, size = elements.size(); i < size; i++) {
+            final RenderStack.StackElement thisElement = elements.get(i);
+            // SweepSeries are drawn by the sweep layer:
+            if(sweepLayer != null && thisElement.get().getSeries() instanceof SweepSeries) {
+                continue;
+            }
+            if(thisElement.isEnabled()) {
+                plot.getRenderer(thisElement.get().getFormatter().getRendererClass()).
+                        render(canvas, gridDimensions.paddedRect, thisElement.get(), renderStack);
+            }
+        }
+    }
 
-            for(RenderStack.StackElement thisElement : renderStack.getElements()) {
-                if(thisElement.isEnabled()) {
-                    plot.getRenderer(thisElement.get().getFormatter().getRendererClass()).
-                            render(canvas, gridDimensions.paddedRect, thisElement.get(), renderStack);
-                }
+    public DataRenderMode getDataRenderMode() {
+        return dataRenderMode;
+    }
+
+    /**
+     * Sets how series data is rendered.  See {@link DataRenderMode}.
+     * @param dataRenderMode
+     * @since 0.9.8
+     */
+    public void setDataRenderMode(DataRenderMode dataRenderMode) {
+        this.dataRenderMode = dataRenderMode;
+        stripChartLayer = dataRenderMode == DataRenderMode.STRIP_CHART ? new StripChartLayer(this) : null;
+        SweepLayer sweep = null;
+        if(dataRenderMode == DataRenderMode.SWEEP) {
+            sweep = new SweepLayer();
+            if(sweepEraseBandWidth != null) {
+                sweep.setEraseBandWidth(sweepEraseBandWidth);
             }
+        }
+        sweepLayer = sweep;
+    }
 
-        } finally {
-            canvas.restore();
+    /**
+     * Sets the width of the band erased ahead of the cursor when using {@link DataRenderMode#SWEEP}.
+     * @param eraseBandWidth Width in pixels.
+     * @since 0.9.8
+     */
+    public void setSweepEraseBandWidth(float eraseBandWidth) {
+        this.sweepEraseBandWidth = eraseBandWidth;
+        final SweepLayer sweep = sweepLayer;
+        if(sweep != null) {
+            sweep.setEraseBandWidth(eraseBandWidth);
+        }
+    }
+
+    /**
+     * Discards any series data retained between frames by the current {@link DataRenderMode},
+     * forcing all series data to be rendered during the next frame.  Only needs to be called
+     * when series data changes in ways other than the domain window scrolling.
+     * @since 0.9.8
+     */
+    public void invalidateData() {
+        final StripChartLayer layer = stripChartLayer;
+        if(layer != null) {
+            layer.invalidate();
+        }
+        final SweepLayer sweep = sweepLayer;
+        if(sweep != null) {
+            sweep.invalidate();
+        }
+    }
+
+    public boolean isParallelSeriesRenderingEnabled() {
+        return seriesLayerCompositor != null;
+    }
+
+    /**
+     * Enables or disables parallel series rendering.  When enabled, each series not drawn by a
+     * {@link GroupRenderer} is rasterized into its own offscreen layer on a shared worker pool and
+     * the layers are composited in render stack order, trading memory for shorter frame times on
+     * plots with many expensive series.  Each layer is an ARGB_8888 bitmap the size of the graph
+     * area, 4 bytes per pixel or roughly 8MB for a 1080p plot.  Up to one layer more than the
+     * number of available processors is retained; the layers are freed along with the plot's other
+     * buffers, eg. under memory pressure, see {@link com.androidplot.PlotBufferManager}.  Custom renderers
+     * used in this mode must not share mutable state between series and must not
+     * manipulate the {@link com.androidplot.ui.RenderStack}; renderers that need to do either
+     * should extend {@link GroupRenderer}.  Disabled by default.
+     * @param enabled
+     * @since 0.9.8
+     */
+    public void setParallelSeriesRenderingEnabled(boolean enabled) {
+        if(enabled != isParallelSeriesRenderingEnabled()) {
+            seriesLayerCompositor = enabled ? new SeriesLayerCompositor() : null;
         }
     }
 
+    SeriesLayerCompositor getSeriesLayerCompositor() {
+        return seriesLayerCompositor;
+    }
+
+    /**
+     * Frees the bitmaps retained by the current {@link DataRenderMode} and parallel series
+     * rendering.  They are recreated, and all series data rendered, during the next frame.
+     */
+    void releaseBuffers() {
+        final StripChartLayer layer = stripChartLayer;
+        if(layer != null) {
+            layer.release();
+        }
+        final SweepLayer sweep = sweepLayer;
+        if(sweep != null) {
+            sweep.release();
+        }
+        final SeriesLayerCompositor compositor = seriesLayerCompositor;
+        if(compositor != null) {
+            compositor.release();
+        }
+    }
+
+    StripChartLayer getStripChartLayer() {
+        return stripChartLayer;
+    }
+
+    SweepLayer getSweepLayer() {
+        return sweepLayer;
+    }
+
     protected void drawPoint(Canvas canvas, PointF point, Paint paint) {
         canvas.drawPoint(point.x, point.y, paint);
     }
@@ -17,12 +17,14 @@
 package com.androidplot.xy;
 
 import android.graphics.*;
+import com.androidplot.SeriesRegistry;
 import com.androidplot.ui.LayoutManager;
 import com.androidplot.ui.SeriesAndFormatter;
 import com.androidplot.ui.Size;
 import com.androidplot.ui.TableModel;
 import com.androidplot.ui.widget.Widget;
 import com.androidplot.util.FontUtils;
+import com.androidplot.util.RectFUtils;
 
 import java.util.*;
 
@@ -44,6 +46,32 @@ public class XYLegendWidget extends Widget {
         REGION
     }
 
+    /**
+     * A single legend entry along with the cell geometry it is drawn into.
+     */
+    private static class LegendItem {
+        private final CellType type;
+        private SeriesAndFormatter<XYSeries, XYSeriesFormatter> seriesAndFormatter;
+        private XYSeriesRenderer renderer;
+        private XYRegionFormatter regionFormatter;
+        private String label;
+        private RectF cellRect;
+        private RectF iconRect;
+
+        LegendItem(SeriesAndFormatter<XYSeries, XYSeriesFormatter> seriesAndFormatter,
+                   XYSeriesRenderer renderer) {
+            this.type = CellType.SERIES;
+            this.seriesAndFormatter = seriesAndFormatter;
+            this.renderer = renderer;
+        }
+
+        LegendItem(XYRegionFormatter regionFormatter, String label) {
+            this.type = CellType.REGION;
+            this.regionFormatter = regionFormatter;
+            this.label = label;
+        }
+    }
+
     private XYPlot plot;
     //private float iconWidth = 12;
     private Paint textPaint;
@@ -54,6 +82,12 @@ public class XYLegendWidget extends Widget {
 
     private Size iconSize;
     private static final RegionEntryComparator regionEntryComparator = new RegionEntryComparator();
+
+    // cached legend entries and the state they were calculated from:
+    private List<LegendItem> legendItems;
+    private int seriesModCount;
+    private int regionsModCount;
+    private RectF lastWidgetRect;
     //private RectF iconRect = new RectF(0, 0, ICON_WIDTH_DEFAULT, ICON_HEIGHT_DEFAULT);
 
     {
@@ -78,6 +112,7 @@ public class XYLegendWidget extends Widget {
 
     public synchronized void setTableModel(TableModel tableModel) {
         this.tableModel = tableModel;
+        legendItems = null;
     }
 
     private RectF getIconRect(RectF cellRect) {
@@ -123,8 +158,8 @@ public class XYLegendWidget extends Widget {
             canvas.drawRect(rect, formatter.getPaint());
         }
 
-    private void drawRegionLegendCell(Canvas canvas, XYRegionFormatter formatter, RectF cellRect, String text) {
-        RectF iconRect = getIconRect(cellRect);
+    private void drawRegionLegendCell(Canvas canvas, XYRegionFormatter formatter, RectF cellRect,
+                                      RectF iconRect, String text) {
         beginDrawingCell(canvas, iconRect);
 
                 drawRegionLegendIcon(
@@ -135,8 +170,8 @@ public class XYLegendWidget extends Widget {
         finishDrawingCell(canvas, cellRect, iconRect, text);
     }
 
-    private void drawSeriesLegendCell(Canvas canvas, XYSeriesRenderer renderer, XYSeriesFormatter formatter, RectF cellRect, String seriesTitle) {
-        RectF iconRect = getIconRect(cellRect);
+    private void drawSeriesLegendCell(Canvas canvas, XYSeriesRenderer renderer, XYSeriesFormatter formatter,
+                                      RectF cellRect, RectF iconRect, String seriesTitle) {
         beginDrawingCell(canvas, iconRect);
 
                 renderer.drawSeriesLegendIcon(
@@ -146,46 +181,87 @@ public class XYLegendWidget extends Widget {
         finishDrawingCell(canvas, cellRect, iconRect, seriesTitle);
     }
 
-    @Override
-    protected synchronized void doOnDraw(Canvas canvas, RectF widgetRect) {
-        if(plot.isEmpty()) {
+    /**
+     * Recalculates the legend's entries and cell geometry if anything they were derived
+     * from has changed since the last time they were calculated.
+     * @param widgetRect
+     */
+    private void refreshLegendItems(RectF widgetRect) {
+        SeriesRegistry<XYSeries, XYSeriesFormatter> registry = plot.getSeriesRegistry();
+        int regionsModCount = 0;
+        for(SeriesAndFormatter<XYSeries, XYSeriesFormatter> sfPair : registry) {
+            regionsModCount += sfPair.getFormatter().regions.getModCount();
+        }
+
+        if(legendItems != null && registry.getModCount() == seriesModCount &&
+                regionsModCount == this.regionsModCount &&
+                RectFUtils.areIdentical(widgetRect, lastWidgetRect)) {
             return;
         }
 
         // Keep an alphabetically sorted list of regions:
-        TreeSet<Map.Entry<XYRegionFormatter, String>> sortedRegions = new TreeSet<Map.Entry<XYRegionFormatter, String>>(new RegionEntryComparator());
-
-        // Calculate the number of cells needed to draw the Legend:
-        int seriesCount = plot.getSeriesRegistry().size();
-
+        TreeSet<Map.Entry<XYRegionFormatter, String>> sortedRegions =
+                new TreeSet<Map.Entry<XYRegionFormatter, String>>(regionEntryComparator);
         for(XYSeriesRenderer renderer : plot.getRendererList()) {
             Hashtable<XYRegionFormatter, String> urf = renderer.getUniqueRegionFormatters();
             sortedRegions.addAll(urf.entrySet());
         }
 
-        seriesCount += sortedRegions.size();
+        List<LegendItem> items = new ArrayList<>(registry.size() + sortedRegions.size());
+        for(SeriesAndFormatter<XYSeries, XYSeriesFormatter> sfPair : registry) {
+            items.add(new LegendItem(sfPair,
+                    plot.getRenderer(sfPair.getFormatter().getRendererClass())));
+        }
+        for(Map.Entry<XYRegionFormatter, String> entry : sortedRegions) {
+            items.add(new LegendItem(entry.getKey(), entry.getValue()));
+        }
+
+        // the table model caches its cells, which are shared and never modified:
+        RectF[] cells = tableModel.getCells(widgetRect, items.size());
+        if(cells.length < items.size()) {
+            // no room left to draw the remaining items:
+            items.subList(cells.length, items.size()).clear();
+        }
+        for(int i = 0; i < items.size(); i++) {
+            LegendItem item = items.get(i);
+            item.cellRect = cells[i];
+            item.iconRect = getIconRect(item.cellRect);
+        }
 
-        // Create an iterator specially created to draw the number of cells we calculated:
-        Iterator<RectF> it = tableModel.getIterator(widgetRect, seriesCount);
+        legendItems = items;
+        seriesModCount = registry.getModCount();
+        this.regionsModCount = regionsModCount;
+        lastWidgetRect = new RectF(widgetRect);
+    }
 
-        RectF cellRect;
+    /**
+     * Discards the legend's cached entries and cell geometry, forcing them to be
+     * recalculated on the next draw.  Invoked automatically when series, regions,
+     * the widget's size, the {@link TableModel} or the icon size change; only needs to be called
+     * manually after modifying an existing {@link Size} or {@link TableModel} instance in place.
+     */
+    public synchronized void invalidate() {
+        legendItems = null;
+    }
 
-        // draw each series legend item:
-        for(SeriesAndFormatter<XYSeries, XYSeriesFormatter> sfPair : plot.getSeriesRegistry()) {
-            cellRect = it.next();
-            XYSeriesFormatter format = sfPair.getFormatter();
-            drawSeriesLegendCell(canvas, plot.getRenderer(sfPair.getFormatter().getRendererClass()),
-                    format, cellRect, sfPair.getSeries().getTitle());
+    @Override
+    protected synchronized void doOnDraw(Canvas canvas, RectF widgetRect) {
+        if(plot.isEmpty()) {
+            return;
         }
 
-        // draw each region legend item:
-        for(Map.Entry<XYRegionFormatter, String> entry : sortedRegions) {
-            if(!it.hasNext()) {
-                break;
+        refreshLegendItems(widgetRect);
+        for(LegendItem item : legendItems) {
+            switch(item.type) {
+                case SERIES:
+                    drawSeriesLegendCell(canvas, item.renderer, item.seriesAndFormatter.getFormatter(),
+                            item.cellRect, item.iconRect, item.seriesAndFormatter.getSeries().getTitle());
+                    break;
+                case REGION:
+                    drawRegionLegendCell(canvas, item.regionFormatter, item.cellRect,
+                            item.iconRect, item.label);
+                    break;
             }
-            cellRect = it.next();
-            XYRegionFormatter formatter = entry.getKey();
-            drawRegionLegendCell(canvas, formatter, cellRect, entry.getValue());
         }
     }
 
@@ -227,7 +303,8 @@ public class XYLegendWidget extends Widget {
      * the size is calculated against the countaining cell's size, not the plot's size.
      * @param iconSize
      */
-    public void setIconSize(Size iconSize) {
+    public synchronized void setIconSize(Size iconSize) {
         this.iconSize = iconSize;
+        legendItems = null;
     }
 }
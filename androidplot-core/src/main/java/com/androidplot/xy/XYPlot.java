@@ -24,13 +24,15 @@ import android.graphics.Paint;
 import android.graphics.PointF;
 import android.util.AttributeSet;
 import com.androidplot.Plot;
+import com.androidplot.PreparedFrame;
 import com.androidplot.R;
 import com.androidplot.ui.*;
 import com.androidplot.ui.TextOrientationType;
 import com.androidplot.ui.widget.TextLabelWidget;
 import com.androidplot.util.AttrUtils;
+import com.androidplot.util.DisplayDimensions;
 import com.androidplot.util.PixelUtils;
-import com.androidplot.util.SeriesUtils;
+import com.androidplot.util.BoundsCalculator;
 
 import java.text.Format;
 import java.util.ArrayList;
@@ -76,9 +78,6 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
     private static final int DEFAULT_DOMAIN_TICK_LABEL_WIDTH = 15;
     private static final int DEFAULT_RANGE_TICK_LABEL_WIDTH = 41;
 
-    private BoundaryMode domainOriginBoundaryMode;
-    private BoundaryMode rangeOriginBoundaryMode;
-
     // widgets
     private XYLegendWidget legendWidget;
     private XYGraphWidget graphWidget;
@@ -88,7 +87,63 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
     private XYStepModel domainStepModel;
     private XYStepModel rangeStepModel;
 
-    private XYConstraints constraints = new XYConstraints();
+    /**
+     * Boundary and origin configuration.  A published instance is never modified; setters
+     * publish a modified copy instead, so rendering reads one consistent configuration per frame
+     * without locking and configuration changes never wait on a render in progress.
+     */
+    private static class Config {
+        final XYConstraints constraints;
+
+        // uses set boundary min and max values
+        // should be null if not used.
+        Number rangeTopMin;
+        Number rangeTopMax;
+        Number rangeBottomMin;
+        Number rangeBottomMax;
+        Number domainLeftMin;
+        Number domainLeftMax;
+        Number domainRightMin;
+        Number domainRightMax;
+
+        Number userDomainOrigin;
+        Number userRangeOrigin;
+        Number domainOriginExtent;
+        Number rangeOriginExtent;
+        BoundaryMode domainOriginBoundaryMode;
+        BoundaryMode rangeOriginBoundaryMode;
+
+        Config() {
+            constraints = new XYConstraints();
+        }
+
+        Config(Config c) {
+            constraints = new XYConstraints(c.constraints);
+            rangeTopMin = c.rangeTopMin;
+            rangeTopMax = c.rangeTopMax;
+            rangeBottomMin = c.rangeBottomMin;
+            rangeBottomMax = c.rangeBottomMax;
+            domainLeftMin = c.domainLeftMin;
+            domainLeftMax = c.domainLeftMax;
+            domainRightMin = c.domainRightMin;
+            domainRightMax = c.domainRightMax;
+            userDomainOrigin = c.userDomainOrigin;
+            userRangeOrigin = c.userRangeOrigin;
+            domainOriginExtent = c.domainOriginExtent;
+            rangeOriginExtent = c.rangeOriginExtent;
+            domainOriginBoundaryMode = c.domainOriginBoundaryMode;
+            rangeOriginBoundaryMode = c.rangeOriginBoundaryMode;
+        }
+    }
+
+    private volatile Config config = new Config();
+
+    // serializes configuration changes:
+    private final Object configLock = new Object();
+
+    // guarded by configLock; the copy being modified by the outermost setter in progress:
+    private Config pendingConfig;
+    private int configEditDepth;
 
     // these are the final min/max used for dispplaying data
     private Number calculatedMinX;
@@ -103,27 +158,20 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
     private Number prevMinY;
     private Number prevMaxY;
 
-    // uses set boundary min and max values
-    // should be null if not used.
-    private Number rangeTopMin = null;
-    private Number rangeTopMax = null;
-    private Number rangeBottomMin = null;
-    private Number rangeBottomMax = null;
-    private Number domainLeftMin = null;
-    private Number domainLeftMax = null;
-    private Number domainRightMin = null;
-    private Number domainRightMax = null;
-
-    private Number userDomainOrigin;
-    private Number userRangeOrigin;
-
     private Number calculatedDomainOrigin;
     private Number calculatedRangeOrigin;
 
-    @SuppressWarnings("FieldCanBeLocal")
-    private Number domainOriginExtent = null;
-    @SuppressWarnings("FieldCanBeLocal")
-    private Number rangeOriginExtent = null;
+    // the calculated bounds the current display list was recorded with:
+    private Number displayListMinX;
+    private Number displayListMaxX;
+    private Number displayListMinY;
+    private Number displayListMaxY;
+    private Number displayListDomainOrigin;
+    private Number displayListRangeOrigin;
+
+    // the prepared frame currently being drawn, if any; guarded by this:
+    private XYFrame drawingFrame;
+
 
     private boolean drawDomainOriginEnabled = true;
     private boolean drawRangeOriginEnabled = true;
@@ -440,7 +488,146 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
         // this call must be AFTER the notify so that if the listener
         // is a synchronized series, it has the opportunity to
         // place a read lock on it's data.
-        calculateMinMaxVals();
+        // prepared frames were already framed during the preparation stage:
+        if(drawingFrame == null) {
+            calculateMinMaxVals();
+        }
+    }
+
+    /**
+     * Snapshots the data of each line series, calculates bounds and converts the snapshots to
+     * pixel coordinates.  The plot's monitor is only held while copying the series registry and
+     * while applying the framing model to the already calculated data bounds.
+     * @return
+     */
+    @Override
+    protected PreparedFrame prepareFrame() {
+        final List<SeriesAndFormatter<XYSeries, XYSeriesFormatter>> pairs;
+        synchronized (this) {
+            pairs = new ArrayList<>(getSeriesRegistry());
+        }
+        final List<SeriesAndFormatter<XYSeries, XYSeriesFormatter>> prepared = new ArrayList<>(pairs.size());
+        final List<XYSeries> seriesList = new ArrayList<>(pairs.size());
+        XYBounds dataBounds = null;
+        final Config config = this.config;
+        final XYConstraints constraints = config.constraints;
+        notifySeriesListenersBeforePrepare();
+        try {
+            for (SeriesAndFormatter<XYSeries, XYSeriesFormatter> sf : pairs) {
+                // only line series are snapshotted; other renderers may depend on their series' type:
+                if (sf.getFormatter() instanceof LineAndPointFormatter
+                        && !(sf.getSeries() instanceof SweepSeries)) {
+                    sf = new SeriesAndFormatter<XYSeries, XYSeriesFormatter>(
+                            new XYSeriesSnapshot(sf.getSeries()), sf.getFormatter());
+                }
+                prepared.add(sf);
+                seriesList.add(sf.getSeries());
+            }
+            if (constraints.getMinX() == null || constraints.getMaxX() == null
+                    || constraints.getMinY() == null || constraints.getMaxY() == null) {
+                dataBounds = BoundsCalculator.getSharedInstance().calculate(constraints, seriesList);
+            }
+        } finally {
+            notifySeriesListenersAfterPrepare();
+        }
+
+        final XYFrame frame;
+        final DisplayDimensions dims;
+        synchronized (this) {
+            calculateMinMaxVals(config, dataBounds);
+            frame = new XYFrame(prepared, getCalculatedMinX(), getCalculatedMaxX(),
+                    getCalculatedMinY(), getCalculatedMaxY(), getDomainOrigin(), getRangeOrigin());
+            // the graph widget is laid out while drawing, which holds this lock:
+            dims = getGraphWidget().getGridDimensions();
+        }
+
+        if (dims != null) {
+            frame.preparePixels(dims.paddedRect);
+        }
+        return frame;
+    }
+
+    @Override
+    protected synchronized void renderOnCanvas(Canvas canvas, PreparedFrame frame) {
+        if (!(frame instanceof XYFrame)) {
+            super.renderOnCanvas(canvas, frame);
+            return;
+        }
+
+        // draw using the frame's bounds but keep the latest calculated bounds, which
+        // the next frame is framed against:
+        final Number minX = calculatedMinX;
+        final Number maxX = calculatedMaxX;
+        final Number minY = calculatedMinY;
+        final Number maxY = calculatedMaxY;
+        final Number domainOrigin = calculatedDomainOrigin;
+        final Number rangeOrigin = calculatedRangeOrigin;
+        drawingFrame = (XYFrame) frame;
+        calculatedMinX = drawingFrame.minX;
+        calculatedMaxX = drawingFrame.maxX;
+        calculatedMinY = drawingFrame.minY;
+        calculatedMaxY = drawingFrame.maxY;
+        calculatedDomainOrigin = drawingFrame.domainOrigin;
+        calculatedRangeOrigin = drawingFrame.rangeOrigin;
+        try {
+            super.renderOnCanvas(canvas, frame);
+        } finally {
+            drawingFrame = null;
+            calculatedMinX = minX;
+            calculatedMaxX = maxX;
+            calculatedMinY = minY;
+            calculatedMaxY = maxY;
+            calculatedDomainOrigin = domainOrigin;
+            calculatedRangeOrigin = rangeOrigin;
+        }
+    }
+
+    @Override
+    protected boolean isDisplayListCurrent() {
+        return super.isDisplayListCurrent()
+                && equal(displayListMinX, calculatedMinX)
+                && equal(displayListMaxX, calculatedMaxX)
+                && equal(displayListMinY, calculatedMinY)
+                && equal(displayListMaxY, calculatedMaxY)
+                && equal(displayListDomainOrigin, calculatedDomainOrigin)
+                && equal(displayListRangeOrigin, calculatedRangeOrigin);
+    }
+
+    @Override
+    protected void onDisplayListRecorded() {
+        displayListMinX = calculatedMinX;
+        displayListMaxX = calculatedMaxX;
+        displayListMinY = calculatedMinY;
+        displayListMaxY = calculatedMaxY;
+        displayListDomainOrigin = calculatedDomainOrigin;
+        displayListRangeOrigin = calculatedRangeOrigin;
+    }
+
+    private static boolean equal(Number a, Number b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    /**
+     * Draws the cursors and markers, which are left out of the recorded display list so that
+     * they can be moved around without re-recording.
+     * @param canvas
+     */
+    @Override
+    protected void drawOverlays(Canvas canvas) {
+        getGraphWidget().drawOverlays(canvas);
+    }
+
+    @Override
+    protected void onReleaseBuffers() {
+        getGraphWidget().releaseBuffers();
+    }
+
+    /**
+     * @return The prepared frame currently being drawn or null if the current frame is being
+     * prepared inline.  Only meaningful while drawing.
+     */
+    XYFrame getDrawingFrame() {
+        return drawingFrame;
     }
 
     /**
@@ -467,6 +654,11 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
         return containsPoint(point.x, point.y);
     }
 
+    /**
+     * Moves the cursors.  Follow with {@link #redrawOverlays()} rather than {@link #redraw()}
+     * so that plots using display lists do not re-record their content.
+     * @param point
+     */
     public void setCursorPosition(PointF point) {
         getGraphWidget().setCursorPosition(point);
     }
@@ -484,6 +676,19 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
     }
 
     public void calculateMinMaxVals() {
+        calculateMinMaxVals(null);
+    }
+
+    /**
+     * Calculates the final bounds of the plot.
+     * @param dataBounds Bounds of the plot's series data if already known, otherwise null.
+     */
+    protected void calculateMinMaxVals(XYBounds dataBounds) {
+        calculateMinMaxVals(config, dataBounds);
+    }
+
+    private void calculateMinMaxVals(Config config, XYBounds dataBounds) {
+        final XYConstraints constraints = config.constraints;
         prevMinX = calculatedMinX;
         prevMaxX = calculatedMaxX;
         prevMinY = calculatedMinY;
@@ -497,7 +702,8 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
         // only calculate if we must:
         if(calculatedMinX == null || calculatedMaxX == null || calculatedMinY == null || calculatedMaxY == null) {
 
-            XYBounds bounds = SeriesUtils.minMax(constraints, getSeriesRegistry().getSeriesList());
+            XYBounds bounds = dataBounds != null ? dataBounds : BoundsCalculator.getSharedInstance()
+                    .calculate(constraints, getSeriesRegistry().getSeriesList());
 
             if(calculatedMinX == null) calculatedMinX = bounds.getMinX();
             if(calculatedMaxX == null) calculatedMaxX = bounds.getMaxX();
@@ -510,17 +716,17 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
         // (grow, shrink etc.)
         switch (constraints.getDomainFramingModel()) {
             case ORIGIN:
-                updateDomainMinMaxForOriginModel();
+                updateDomainMinMaxForOriginModel(config);
                 break;
             case EDGE:
                 calculatedMaxX = getCalculatedUpperBoundary(
                         constraints.getDomainUpperBoundaryMode(), prevMaxX, calculatedMaxX);
                 calculatedMinX = getCalculatedLowerBoundary(
                         constraints.getDomainLowerBoundaryMode(), prevMinX, calculatedMinX);
-                calculatedMinX = applyUserMinMax(calculatedMinX, domainLeftMin,
-                        domainLeftMax);
+                calculatedMinX = applyUserMinMax(calculatedMinX, config.domainLeftMin,
+                        config.domainLeftMax);
                 calculatedMaxX = applyUserMinMax(calculatedMaxX,
-                        domainRightMin, domainRightMax);
+                        config.domainRightMin, config.domainRightMax);
                 break;
             default:
                 throw new UnsupportedOperationException(
@@ -529,7 +735,7 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
 
         switch (constraints.getRangeFramingModel()) {
             case ORIGIN:
-                updateRangeMinMaxForOriginModel();
+                updateRangeMinMaxForOriginModel(config);
                 break;
             case EDGE:
             	if (getSeriesRegistry().size() > 0) {
@@ -537,8 +743,8 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
                             constraints.getRangeUpperBoundaryMode(), prevMaxY, calculatedMaxY);
                     calculatedMinY = getCalculatedLowerBoundary(
                             constraints.getRangeLowerBoundaryMode(), prevMinY, calculatedMinY);
-	                calculatedMinY = applyUserMinMax(calculatedMinY, rangeBottomMin, rangeBottomMax);
-	                calculatedMaxY = applyUserMinMax(calculatedMaxY, rangeTopMin, rangeTopMax);
+	                calculatedMinY = applyUserMinMax(calculatedMinY, config.rangeBottomMin, config.rangeBottomMax);
+	                calculatedMaxY = applyUserMinMax(calculatedMaxY, config.rangeTopMin, config.rangeTopMax);
             	}
                 break;
             default:
@@ -546,11 +752,11 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
                         "Range Framing Model not yet supported: " + constraints.getRangeFramingModel());
         }
 
-        calculatedDomainOrigin = userDomainOrigin != null ?
-                userDomainOrigin : getCalculatedMinX();
+        calculatedDomainOrigin = config.userDomainOrigin != null ?
+                config.userDomainOrigin : getCalculatedMinX();
 
-        calculatedRangeOrigin = this.userRangeOrigin != null ?
-                userRangeOrigin : getCalculatedMinY();
+        calculatedRangeOrigin = config.userRangeOrigin != null ?
+                config.userRangeOrigin : getCalculatedMinY();
     }
 
     protected Number getCalculatedUpperBoundary(BoundaryMode mode, Number previousMax, Number calculatedMax) {
@@ -632,18 +838,23 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
      * @param extent
      * @param mode
      */
-    public void centerOnDomainOrigin(Number origin, Number extent, BoundaryMode mode) {
+    public void centerOnDomainOrigin(final Number origin, final Number extent, final BoundaryMode mode) {
         if (origin == null) {
             throw new NullPointerException("Origin param cannot be null.");
         }
-        constraints.setDomainFramingModel(XYFramingModel.ORIGIN);
-        setUserDomainOrigin(origin);
-        domainOriginExtent = extent;
-        domainOriginBoundaryMode = mode;
-
-        Number[] minMax = getOriginMinMax(domainOriginBoundaryMode, userDomainOrigin, domainOriginExtent);
-        constraints.setMinX(minMax[0]);
-        constraints.setMaxX(minMax[1]);
+        editConfig(new ConfigEdit() {
+            @Override
+            public void apply(Config c) {
+                c.constraints.setDomainFramingModel(XYFramingModel.ORIGIN);
+                c.userDomainOrigin = origin;
+                c.domainOriginExtent = extent;
+                c.domainOriginBoundaryMode = mode;
+
+                Number[] minMax = getOriginMinMax(mode, origin, extent);
+                c.constraints.setMinX(minMax[0]);
+                c.constraints.setMaxX(minMax[1]);
+            }
+        });
     }
 
     /**
@@ -664,18 +875,23 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
      * @param mode
      */
     @SuppressWarnings("SameParameterValue")
-    public void centerOnRangeOrigin(Number origin, Number extent, BoundaryMode mode) {
+    public void centerOnRangeOrigin(final Number origin, final Number extent, final BoundaryMode mode) {
         if (origin == null) {
             throw new NullPointerException("Origin param cannot be null.");
         }
-        constraints.setRangeFramingModel(XYFramingModel.ORIGIN);
-        setUserRangeOrigin(origin);
-        rangeOriginExtent = extent;
-        rangeOriginBoundaryMode = mode;
-
-        Number[] minMax = getOriginMinMax(rangeOriginBoundaryMode, userRangeOrigin, rangeOriginExtent);
-        constraints.setMinY(minMax[0]);
-        constraints.setMaxY(minMax[1]);
+        editConfig(new ConfigEdit() {
+            @Override
+            public void apply(Config c) {
+                c.constraints.setRangeFramingModel(XYFramingModel.ORIGIN);
+                c.userRangeOrigin = origin;
+                c.rangeOriginExtent = extent;
+                c.rangeOriginBoundaryMode = mode;
+
+                Number[] minMax = getOriginMinMax(mode, origin, extent);
+                c.constraints.setMinY(minMax[0]);
+                c.constraints.setMaxY(minMax[1]);
+            }
+        });
     }
 
     /**
@@ -712,7 +928,12 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
     }
 
     public void updateDomainMinMaxForOriginModel() {
-        double origin = userDomainOrigin.doubleValue();
+        updateDomainMinMaxForOriginModel(config);
+    }
+
+    private void updateDomainMinMaxForOriginModel(Config config) {
+        final BoundaryMode domainOriginBoundaryMode = config.domainOriginBoundaryMode;
+        double origin = config.userDomainOrigin.doubleValue();
         double maxXDelta = distance(calculatedMaxX.doubleValue(), origin);
         double minXDelta = distance(calculatedMinX.doubleValue(), origin);
         double delta = maxXDelta > minXDelta ? maxXDelta : minXDelta;
@@ -761,9 +982,14 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
     }
 
     public void updateRangeMinMaxForOriginModel() {
+        updateRangeMinMaxForOriginModel(config);
+    }
+
+    private void updateRangeMinMaxForOriginModel(Config config) {
+        final BoundaryMode rangeOriginBoundaryMode = config.rangeOriginBoundaryMode;
         switch (rangeOriginBoundaryMode) {
             case AUTO:
-                double origin = userRangeOrigin.doubleValue();
+                double origin = config.userRangeOrigin.doubleValue();
                 double maxYDelta = distance(calculatedMaxY.doubleValue(), origin);
                 double minYDelta = distance(calculatedMinY.doubleValue(), origin);
                 if (maxYDelta > minYDelta) {
@@ -893,6 +1119,34 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
         return graphWidget;
     }
 
+    /**
+     * Convenience method; sets how the graph widget renders series data.
+     * See {@link DataRenderMode}.
+     * @param dataRenderMode
+     * @since 0.9.8
+     */
+    public void setDataRenderMode(DataRenderMode dataRenderMode) {
+        getGraphWidget().setDataRenderMode(dataRenderMode);
+    }
+
+    public DataRenderMode getDataRenderMode() {
+        return getGraphWidget().getDataRenderMode();
+    }
+
+    /**
+     * Convenience method; enables or disables parallel series rendering on the graph widget.
+     * See {@link XYGraphWidget#setParallelSeriesRenderingEnabled(boolean)}.
+     * @param enabled
+     * @since 0.9.8
+     */
+    public void setParallelSeriesRenderingEnabled(boolean enabled) {
+        getGraphWidget().setParallelSeriesRenderingEnabled(enabled);
+    }
+
+    public boolean isParallelSeriesRenderingEnabled() {
+        return getGraphWidget().isParallelSeriesRenderingEnabled();
+    }
+
     public void setGraphWidget(XYGraphWidget graphWidget) {
         this.graphWidget = graphWidget;
     }
@@ -956,7 +1210,7 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
      * @param upperBoundary
      * @param mode
      */
-    public synchronized void setDomainBoundaries(Number lowerBoundary, Number upperBoundary, BoundaryMode mode) {
+    public void setDomainBoundaries(Number lowerBoundary, Number upperBoundary, BoundaryMode mode) {
         setDomainBoundaries(lowerBoundary, mode, upperBoundary, mode);
     }
 
@@ -968,10 +1222,15 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
      * @param upperBoundary
      * @param upperBoundaryMode
      */
-    public synchronized void setDomainBoundaries(Number lowerBoundary, BoundaryMode lowerBoundaryMode,
-                                                 Number upperBoundary, BoundaryMode upperBoundaryMode) {
-        setDomainLowerBoundary(lowerBoundary, lowerBoundaryMode);
-        setDomainUpperBoundary(upperBoundary, upperBoundaryMode);
+    public void setDomainBoundaries(final Number lowerBoundary, final BoundaryMode lowerBoundaryMode,
+                                    final Number upperBoundary, final BoundaryMode upperBoundaryMode) {
+        editConfig(new ConfigEdit() {
+            @Override
+            public void apply(Config config) {
+                setDomainLowerBoundary(lowerBoundary, lowerBoundaryMode);
+                setDomainUpperBoundary(upperBoundary, upperBoundaryMode);
+            }
+        });
     }
 
     /**
@@ -981,7 +1240,7 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
      * @param upperBoundary
      * @param mode
      */
-    public synchronized void setRangeBoundaries(Number lowerBoundary, Number upperBoundary, BoundaryMode mode) {
+    public void setRangeBoundaries(Number lowerBoundary, Number upperBoundary, BoundaryMode mode) {
         setRangeBoundaries(lowerBoundary, mode, upperBoundary, mode);
     }
 
@@ -993,18 +1252,29 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
      * @param upperBoundary
      * @param upperBoundaryMode
      */
-    public synchronized void setRangeBoundaries(Number lowerBoundary, BoundaryMode lowerBoundaryMode,
-                                                Number upperBoundary, BoundaryMode upperBoundaryMode) {
-        setRangeLowerBoundary(lowerBoundary, lowerBoundaryMode);
-        setRangeUpperBoundary(upperBoundary, upperBoundaryMode);
+    public void setRangeBoundaries(final Number lowerBoundary, final BoundaryMode lowerBoundaryMode,
+                                   final Number upperBoundary, final BoundaryMode upperBoundaryMode) {
+        editConfig(new ConfigEdit() {
+            @Override
+            public void apply(Config config) {
+                setRangeLowerBoundary(lowerBoundary, lowerBoundaryMode);
+                setRangeUpperBoundary(upperBoundary, upperBoundaryMode);
+            }
+        });
     }
 
-    protected synchronized void setDomainUpperBoundaryMode(BoundaryMode mode) {
-        constraints.setDomainUpperBoundaryMode(mode);
+    protected void setDomainUpperBoundaryMode(BoundaryMode mode) {
+        synchronized (configLock) {
+            editableConfig().constraints.setDomainUpperBoundaryMode(mode);
+            publishConfig();
+        }
     }
 
-    protected synchronized void setUserMaxX(Number maxX) {
-        constraints.setMaxX(maxX);
+    protected void setUserMaxX(Number maxX) {
+        synchronized (configLock) {
+            editableConfig().constraints.setMaxX(maxX);
+            publishConfig();
+        }
     }
 
     /**
@@ -1013,18 +1283,29 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
      * @param boundary
      * @param mode
      */
-    public synchronized void setDomainUpperBoundary(Number boundary, BoundaryMode mode) {
-        setUserMaxX((mode == BoundaryMode.FIXED) ? boundary : null);
-        setDomainUpperBoundaryMode(mode);
-        setDomainFramingModel(XYFramingModel.EDGE);
+    public void setDomainUpperBoundary(final Number boundary, final BoundaryMode mode) {
+        editConfig(new ConfigEdit() {
+            @Override
+            public void apply(Config config) {
+                setUserMaxX((mode == BoundaryMode.FIXED) ? boundary : null);
+                setDomainUpperBoundaryMode(mode);
+                setDomainFramingModel(XYFramingModel.EDGE);
+            }
+        });
     }
 
-    protected synchronized void setDomainLowerBoundaryMode(BoundaryMode mode) {
-        constraints.setDomainLowerBoundaryMode(mode);
+    protected void setDomainLowerBoundaryMode(BoundaryMode mode) {
+        synchronized (configLock) {
+            editableConfig().constraints.setDomainLowerBoundaryMode(mode);
+            publishConfig();
+        }
     }
 
-    protected synchronized void setUserMinX(Number minX) {
-        constraints.setMinX(minX);
+    protected void setUserMinX(Number minX) {
+        synchronized (configLock) {
+            editableConfig().constraints.setMinX(minX);
+            publishConfig();
+        }
     }
 
     /**
@@ -1033,18 +1314,29 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
      * @param boundary
      * @param mode
      */
-    public synchronized void setDomainLowerBoundary(Number boundary, BoundaryMode mode) {
-        setUserMinX((mode == BoundaryMode.FIXED) ? boundary : null);
-        setDomainLowerBoundaryMode(mode);
-        setDomainFramingModel(XYFramingModel.EDGE);
+    public void setDomainLowerBoundary(final Number boundary, final BoundaryMode mode) {
+        editConfig(new ConfigEdit() {
+            @Override
+            public void apply(Config config) {
+                setUserMinX((mode == BoundaryMode.FIXED) ? boundary : null);
+                setDomainLowerBoundaryMode(mode);
+                setDomainFramingModel(XYFramingModel.EDGE);
+            }
+        });
     }
 
-    protected synchronized void setRangeUpperBoundaryMode(BoundaryMode mode) {
-        constraints.setRangeUpperBoundaryMode(mode);
+    protected void setRangeUpperBoundaryMode(BoundaryMode mode) {
+        synchronized (configLock) {
+            editableConfig().constraints.setRangeUpperBoundaryMode(mode);
+            publishConfig();
+        }
     }
 
-    protected synchronized void setUserMaxY(Number maxY) {
-        constraints.setMaxY(maxY);
+    protected void setUserMaxY(Number maxY) {
+        synchronized (configLock) {
+            editableConfig().constraints.setMaxY(maxY);
+            publishConfig();
+        }
     }
 
     /**
@@ -1053,18 +1345,29 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
      * @param boundary
      * @param mode
      */
-    public synchronized void setRangeUpperBoundary(Number boundary, BoundaryMode mode) {
-        setUserMaxY((mode == BoundaryMode.FIXED) ? boundary : null);
-        setRangeUpperBoundaryMode(mode);
-        setRangeFramingModel(XYFramingModel.EDGE);
+    public void setRangeUpperBoundary(final Number boundary, final BoundaryMode mode) {
+        editConfig(new ConfigEdit() {
+            @Override
+            public void apply(Config config) {
+                setUserMaxY((mode == BoundaryMode.FIXED) ? boundary : null);
+                setRangeUpperBoundaryMode(mode);
+                setRangeFramingModel(XYFramingModel.EDGE);
+            }
+        });
     }
 
-    protected synchronized void setRangeLowerBoundaryMode(BoundaryMode mode) {
-        constraints.setRangeLowerBoundaryMode(mode);
+    protected void setRangeLowerBoundaryMode(BoundaryMode mode) {
+        synchronized (configLock) {
+            editableConfig().constraints.setRangeLowerBoundaryMode(mode);
+            publishConfig();
+        }
     }
 
-    protected synchronized void setUserMinY(Number minY) {
-        constraints.setMinY(minY);
+    protected void setUserMinY(Number minY) {
+        synchronized (configLock) {
+            editableConfig().constraints.setMinY(minY);
+            publishConfig();
+        }
     }
 
     /**
@@ -1073,10 +1376,15 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
      * @param boundary
      * @param mode
      */
-    public synchronized void setRangeLowerBoundary(Number boundary, BoundaryMode mode) {
-        setUserMinY((mode == BoundaryMode.FIXED) ? boundary : null);
-        setRangeLowerBoundaryMode(mode);
-        setRangeFramingModel(XYFramingModel.EDGE);
+    public void setRangeLowerBoundary(final Number boundary, final BoundaryMode mode) {
+        editConfig(new ConfigEdit() {
+            @Override
+            public void apply(Config config) {
+                setUserMinY((mode == BoundaryMode.FIXED) ? boundary : null);
+                setRangeLowerBoundaryMode(mode);
+                setRangeFramingModel(XYFramingModel.EDGE);
+            }
+        });
     }
 
     public Number getDomainOrigin() {
@@ -1087,28 +1395,95 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
         return calculatedRangeOrigin;
     }
 
-    public synchronized void setUserDomainOrigin(Number origin) {
+    public void setUserDomainOrigin(Number origin) {
         if (origin == null) {
             throw new NullPointerException("Origin value cannot be null.");
         }
-        this.userDomainOrigin = origin;
+        synchronized (configLock) {
+            editableConfig().userDomainOrigin = origin;
+            publishConfig();
+        }
     }
 
-    public synchronized void setUserRangeOrigin(Number origin) {
+    public void setUserRangeOrigin(Number origin) {
         if (origin == null) {
             throw new NullPointerException("Origin value cannot be null.");
         }
-        this.userRangeOrigin = origin;
+        synchronized (configLock) {
+            editableConfig().userRangeOrigin = origin;
+            publishConfig();
+        }
     }
 
     @SuppressWarnings("SameParameterValue")
     protected void setDomainFramingModel(XYFramingModel model) {
-        constraints.setDomainFramingModel(model);
+        synchronized (configLock) {
+            editableConfig().constraints.setDomainFramingModel(model);
+            publishConfig();
+        }
     }
 
     @SuppressWarnings("SameParameterValue")
     protected void setRangeFramingModel(XYFramingModel model) {
-        constraints.setRangeFramingModel(model);
+        synchronized (configLock) {
+            editableConfig().constraints.setRangeFramingModel(model);
+            publishConfig();
+        }
+    }
+
+    /**
+     * A change to the plot's configuration; see {@link #editConfig(ConfigEdit)}.
+     */
+    private interface ConfigEdit {
+        void apply(Config config);
+    }
+
+    /**
+     * Applies edit to a copy of the configuration and then publishes the copy.  Setters invoked
+     * from within edit join the same change, so the copy is only published once the outermost
+     * edit finishes.  If the outermost edit throws, the copy is discarded and nothing is published.
+     * @param edit
+     */
+    private void editConfig(ConfigEdit edit) {
+        synchronized (configLock) {
+            final Config c = editableConfig();
+            configEditDepth++;
+            boolean completed = false;
+            try {
+                edit.apply(c);
+                completed = true;
+            } finally {
+                configEditDepth--;
+                if (completed) {
+                    publishConfig();
+                } else if (configEditDepth == 0) {
+                    pendingConfig = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Must be called while holding configLock and followed by {@link #publishConfig()}.
+     * @return The copy of the configuration being modified by the edit in progress, or a new
+     * copy if there is none.
+     */
+    private Config editableConfig() {
+        if (pendingConfig == null) {
+            pendingConfig = new Config(config);
+        }
+        return pendingConfig;
+    }
+
+    /**
+     * Publishes the copy returned by {@link #editableConfig()} unless it belongs to an
+     * enclosing {@link #editConfig(ConfigEdit)}, which publishes it once finished.
+     */
+    private void publishConfig() {
+        if (configEditDepth == 0) {
+            config = pendingConfig;
+            pendingConfig = null;
+        }
     }
 
     /**
@@ -1270,112 +1645,136 @@ public class XYPlot extends Plot<XYSeries, XYSeriesFormatter, XYSeriesRenderer>
      * @return the rangeTopMin
      */
     public Number getRangeTopMin() {
-        return rangeTopMin;
+        return config.rangeTopMin;
     }
 
     /**
      * @param rangeTopMin the rangeTopMin to set
      */
-    public synchronized void setRangeTopMin(Number rangeTopMin) {
-        this.rangeTopMin = rangeTopMin;
+    public void setRangeTopMin(Number rangeTopMin) {
+        synchronized (configLock) {
+            editableConfig().rangeTopMin = rangeTopMin;
+            publishConfig();
+        }
     }
 
     /**
      * @return the rangeTopMax
      */
     public Number getRangeTopMax() {
-        return rangeTopMax;
+        return config.rangeTopMax;
     }
 
     /**
      * @param rangeTopMax the rangeTopMax to set
      */
-    public synchronized void setRangeTopMax(Number rangeTopMax) {
-        this.rangeTopMax = rangeTopMax;
+    public void setRangeTopMax(Number rangeTopMax) {
+        synchronized (configLock) {
+            editableConfig().rangeTopMax = rangeTopMax;
+            publishConfig();
+        }
     }
 
     /**
      * @return the rangeBottomMin
      */
     public Number getRangeBottomMin() {
-        return rangeBottomMin;
+        return config.rangeBottomMin;
     }
 
     /**
      * @param rangeBottomMin the rangeBottomMin to set
      */
-    public synchronized void setRangeBottomMin(Number rangeBottomMin) {
-        this.rangeBottomMin = rangeBottomMin;
+    public void setRangeBottomMin(Number rangeBottomMin) {
+        synchronized (configLock) {
+            editableConfig().rangeBottomMin = rangeBottomMin;
+            publishConfig();
+        }
     }
 
     /**
      * @return the rangeBottomMax
      */
     public Number getRangeBottomMax() {
-        return rangeBottomMax;
+        return config.rangeBottomMax;
     }
 
     /**
      * @param rangeBottomMax the rangeBottomMax to set
      */
-    public synchronized void setRangeBottomMax(Number rangeBottomMax) {
-        this.rangeBottomMax = rangeBottomMax;
+    public void setRangeBottomMax(Number rangeBottomMax) {
+        synchronized (configLock) {
+            editableConfig().rangeBottomMax = rangeBottomMax;
+            publishConfig();
+        }
     }
 
     /**
      * @return the domainLeftMin
      */
     public Number getDomainLeftMin() {
-        return domainLeftMin;
+        return config.domainLeftMin;
     }
 
     /**
      * @param domainLeftMin the domainLeftMin to set
      */
-    public synchronized void setDomainLeftMin(Number domainLeftMin) {
-        this.domainLeftMin = domainLeftMin;
+    public void setDomainLeftMin(Number domainLeftMin) {
+        synchronized (configLock) {
+            editableConfig().domainLeftMin = domainLeftMin;
+            publishConfig();
+        }
     }
 
     /**
      * @return the domainLeftMax
      */
     public Number getDomainLeftMax() {
-        return domainLeftMax;
+        return config.domainLeftMax;
     }
 
     /**
      * @param domainLeftMax the domainLeftMax to set
      */
-    public synchronized void setDomainLeftMax(Number domainLeftMax) {
-        this.domainLeftMax = domainLeftMax;
+    public void setDomainLeftMax(Number domainLeftMax) {
+        synchronized (configLock) {
+            editableConfig().domainLeftMax = domainLeftMax;
+            publishConfig();
+        }
     }
 
     /**
      * @return the domainRightMin
      */
     public Number getDomainRightMin() {
-        return domainRightMin;
+        return config.domainRightMin;
     }
 
     /**
      * @param domainRightMin the domainRightMin to set
      */
-    public synchronized void setDomainRightMin(Number domainRightMin) {
-        this.domainRightMin = domainRightMin;
+    public void setDomainRightMin(Number domainRightMin) {
+        synchronized (configLock) {
+            editableConfig().domainRightMin = domainRightMin;
+            publishConfig();
+        }
     }
 
     /**
      * @return the domainRightMax
      */
     public Number getDomainRightMax() {
-        return domainRightMax;
+        return config.domainRightMax;
     }
 
     /**
      * @param domainRightMax the domainRightMax to set
      */
-    public synchronized void setDomainRightMax(Number domainRightMax) {
-        this.domainRightMax = domainRightMax;
+    public void setDomainRightMax(Number domainRightMax) {
+        synchronized (configLock) {
+            editableConfig().domainRightMax = domainRightMax;
+            publishConfig();
+        }
     }
 
     public XYStepModel getDomainStepModel() {
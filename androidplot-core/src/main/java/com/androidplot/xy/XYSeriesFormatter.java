@@ -20,19 +20,31 @@ import com.androidplot.ui.Formatter;
 import com.androidplot.util.ZHash;
 import com.androidplot.util.ZIndexable;
 
+import java.util.List;
+
 public abstract class XYSeriesFormatter<XYRegionFormatterType extends XYRegionFormatter> extends Formatter<XYPlot> {
     ZHash<RectRegion, XYRegionFormatterType>  regions;
+    private RectRegionIndex regionIndex;
 
     {
         regions = new ZHash<RectRegion, XYRegionFormatterType>();
+        regionIndex = new RectRegionIndex(regions);
     }
 
+    /**
+     * Add a region to be drawn by this formatter.
+     * @param region
+     * @param regionFormatter
+     */
     public void addRegion(RectRegion region, XYRegionFormatterType regionFormatter) {
         regions.addToBottom(region, regionFormatter);
+        region.addOwner(regions);
     }
 
     public void removeRegion(RectRegion region) {
-        regions.remove(region);
+        if (regions.remove(region)) {
+            region.removeOwner(regions);
+        }
     }
 
     /**
@@ -50,4 +62,18 @@ public abstract class XYSeriesFormatter<XYRegionFormatterType extends XYRegionFo
     public XYRegionFormatterType getRegionFormatter(RectRegion region) {
         return regions.get(region);
     }
+
+    /**
+     * Indexed equivalent of {@link RectRegion#regionsWithin(List, Number, Number, Number, Number)}
+     * invoked on this formatter's regions.
+     * @param minX
+     * @param maxX
+     * @param minY
+     * @param maxY
+     * @return This formatter's regions intersecting the specified area, in z-order.
+     * @since 0.9.8
+     */
+    public List<RectRegion> getRegionsWithin(Number minX, Number maxX, Number minY, Number maxY) {
+        return regionIndex.regionsWithin(minX, maxX, minY, maxY);
+    }
 }
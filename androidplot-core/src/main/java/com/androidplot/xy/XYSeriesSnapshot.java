@@ -0,0 +1,125 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.androidplot.xy;
+
+import android.graphics.RectF;
+import com.androidplot.util.ValPixConverter;
+
+/**
+ * An immutable copy of an {@link XYSeries}' data taken during the preparation stage, along with
+ * that data converted to pixel coordinates, so that the drawing stage neither reads live series
+ * data nor performs value to pixel conversion.
+ */
+class XYSeriesSnapshot implements XYSeries {
+
+    private final XYSeries source;
+    private final String title;
+
+    // NaN represents a null value:
+    private final double[] xVals;
+    private final double[] yVals;
+
+    // interleaved x/y pixel coordinates; NaN where either value is null:
+    private float[] pixels;
+    private RectF pixelArea;
+
+    XYSeriesSnapshot(XYSeries source) {
+        this.source = source;
+        this.title = source.getTitle();
+        final int size = source.size();
+        xVals = new double[size];
+        yVals = new double[size];
+        for (int i = 0; i < size; i++) {
+            final Number x = source.getX(i);
+            final Number y = source.getY(i);
+            xVals[i] = x != null ? x.doubleValue() : Double.NaN;
+            yVals[i] = y != null ? y.doubleValue() : Double.NaN;
+        }
+    }
+
+    /**
+     * Converts this snapshot's data to pixel coordinates within plotArea.  Uses the same
+     * conversion as {@link ValPixConverter} so that prepared and unprepared points are identical.
+     */
+    void preparePixels(RectF plotArea, double minX, double maxX, double minY, double maxY) {
+        if (plotArea.width() <= 0 || plotArea.height() <= 0) {
+            return;
+        }
+        final float[] result = new float[xVals.length * 2];
+        for (int i = 0, j = 0; i < xVals.length; i++, j += 2) {
+            if (Double.isNaN(xVals[i]) || Double.isNaN(yVals[i])) {
+                result[j] = Float.NaN;
+                result[j + 1] = Float.NaN;
+            } else {
+                result[j] = ValPixConverter.valToPix(
+                        xVals[i], minX, maxX, plotArea.width(), false) + plotArea.left;
+                result[j + 1] = ValPixConverter.valToPix(
+                        yVals[i], minY, maxY, plotArea.height(), true) + plotArea.top;
+            }
+        }
+        pixels = result;
+        pixelArea = plotArea;
+    }
+
+    /**
+     * @param plotArea
+     * @return True if pixel coordinates were prepared for plotArea.
+     */
+    boolean hasPixelsFor(RectF plotArea) {
+        return pixels != null && pixelArea.equals(plotArea);
+    }
+
+    /**
+     * @param index
+     * @return The x pixel coordinate of the point at index or NaN if it has no value.
+     */
+    float getPixelX(int index) {
+        return pixels[index * 2];
+    }
+
+    float getPixelY(int index) {
+        return pixels[index * 2 + 1];
+    }
+
+    /**
+     * @return The series this snapshot was taken of.
+     */
+    XYSeries getSource() {
+        return source;
+    }
+
+    @Override
+    public int size() {
+        return xVals.length;
+    }
+
+    @Override
+    public Number getX(int index) {
+        return Double.isNaN(xVals[index]) ? null : xVals[index];
+    }
+
+    @Override
+    public Number getY(int index) {
+        return Double.isNaN(yVals[index]) ? null : yVals[index];
+    }
+
+    @Override
+    public String getTitle() {
+        return title;
+    }
+}
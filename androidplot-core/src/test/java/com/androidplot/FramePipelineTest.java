@@ -0,0 +1,172 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.androidplot;
+
+import com.androidplot.test.AndroidplotTest;
+import org.junit.Test;
+
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+
+public class FramePipelineTest extends AndroidplotTest {
+
+    // runs tasks only when asked to:
+    static class QueueExecutor implements Executor {
+        final LinkedList<Runnable> tasks = new LinkedList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            while(!tasks.isEmpty()) {
+                tasks.removeFirst().run();
+            }
+        }
+    }
+
+    @Test
+    public void testRequestsAreCoalesced() throws Exception {
+        QueueExecutor executor = new QueueExecutor();
+        final AtomicInteger prepared = new AtomicInteger();
+        final AtomicInteger notified = new AtomicInteger();
+        FramePipeline pipeline = new FramePipeline(executor, new Callable<PreparedFrame>() {
+            @Override
+            public PreparedFrame call() throws Exception {
+                prepared.incrementAndGet();
+                return new PreparedFrame() {};
+            }
+        }, new Runnable() {
+            @Override
+            public void run() {
+                notified.incrementAndGet();
+            }
+        });
+
+        for(int i = 0; i < 10; i++) {
+            pipeline.requestPrepare();
+        }
+        assertEquals(1, executor.tasks.size());
+        executor.runAll();
+        assertEquals(1, prepared.get());
+        assertEquals(1, notified.get());
+    }
+
+    @Test
+    public void testRequestDuringPrepareIsNotLost() throws Exception {
+        QueueExecutor executor = new QueueExecutor();
+        final AtomicInteger prepared = new AtomicInteger();
+        final FramePipeline[] pipeline = new FramePipeline[1];
+        pipeline[0] = new FramePipeline(executor, new Callable<PreparedFrame>() {
+            @Override
+            public PreparedFrame call() throws Exception {
+                if(prepared.incrementAndGet() == 1) {
+                    // simulate the next frame being requested while this one is prepared:
+                    pipeline[0].requestPrepare();
+                }
+                return new PreparedFrame() {};
+            }
+        }, new Runnable() {
+            @Override
+            public void run() {}
+        });
+
+        pipeline[0].requestPrepare();
+        executor.runAll();
+        assertEquals(2, prepared.get());
+    }
+
+    @Test
+    public void testTakeLatest() throws Exception {
+        QueueExecutor executor = new QueueExecutor();
+        final PreparedFrame frame = new PreparedFrame() {};
+        FramePipeline pipeline = new FramePipeline(executor, new Callable<PreparedFrame>() {
+            @Override
+            public PreparedFrame call() throws Exception {
+                return frame;
+            }
+        }, new Runnable() {
+            @Override
+            public void run() {}
+        });
+
+        assertNull(pipeline.takeLatest());
+        pipeline.requestPrepare();
+        executor.runAll();
+        assertSame(frame, pipeline.takeLatest());
+        assertNull(pipeline.takeLatest());
+    }
+
+    @Test
+    public void testNullFrameStillNotifies() throws Exception {
+        QueueExecutor executor = new QueueExecutor();
+        final AtomicInteger notified = new AtomicInteger();
+        FramePipeline pipeline = new FramePipeline(executor, new Callable<PreparedFrame>() {
+            @Override
+            public PreparedFrame call() throws Exception {
+                return null;
+            }
+        }, new Runnable() {
+            @Override
+            public void run() {
+                notified.incrementAndGet();
+            }
+        });
+
+        pipeline.requestPrepare();
+        executor.runAll();
+        assertEquals(1, notified.get());
+        assertNull(pipeline.takeLatest());
+    }
+
+    @Test
+    public void testFailedPrepareStillNotifies() throws Exception {
+        QueueExecutor executor = new QueueExecutor();
+        final AtomicInteger prepared = new AtomicInteger();
+        final AtomicInteger notified = new AtomicInteger();
+        final FramePipeline[] pipeline = new FramePipeline[1];
+        pipeline[0] = new FramePipeline(executor, new Callable<PreparedFrame>() {
+            @Override
+            public PreparedFrame call() throws Exception {
+                if(prepared.incrementAndGet() == 1) {
+                    pipeline[0].requestPrepare();
+                    throw new IllegalStateException("prepare failed");
+                }
+                return new PreparedFrame() {};
+            }
+        }, new Runnable() {
+            @Override
+            public void run() {
+                notified.incrementAndGet();
+            }
+        });
+
+        pipeline[0].requestPrepare();
+        executor.runAll();
+        // the failure neither drops its own frame nor the one requested while it ran:
+        assertEquals(2, prepared.get());
+        assertEquals(2, notified.get());
+    }
+}
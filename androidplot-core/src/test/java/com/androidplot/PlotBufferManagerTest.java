@@ -0,0 +1,160 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.androidplot;
+
+import android.content.ComponentCallbacks2;
+import android.view.View;
+import com.androidplot.test.AndroidplotTest;
+import com.androidplot.xy.XYPlot;
+import mockit.Deencapsulation;
+import org.junit.Before;
+import org.junit.Test;
+import org.robolectric.RuntimeEnvironment;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class PlotBufferManagerTest extends AndroidplotTest {
+
+    PlotBufferManager manager;
+    XYPlot plot;
+
+    @Before
+    public void setUp() throws Exception {
+        manager = PlotBufferManager.getInstance();
+        plot = new XYPlot(getContext(), "Test", Plot.RenderMode.USE_BACKGROUND_THREAD);
+    }
+
+    // renders a frame into the plot's buffers without starting its render thread:
+    private void renderFrame() {
+        SwapChain chain = Deencapsulation.getField(plot, "swapChain");
+        chain.resize(20, 10);
+        chain.beginFrame();
+        chain.endFrame();
+        chain.getLatestFrame();
+    }
+
+    @Test
+    public void testTrimReleasesPlotBuffers() throws Exception {
+        renderFrame();
+        assertTrue(plot.getBufferBytes() > 0);
+        assertTrue(manager.getPlotBufferBytes() >= plot.getBufferBytes());
+
+        // still running in the foreground; plots keep their buffers:
+        manager.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+        assertTrue(plot.getBufferBytes() > 0);
+
+        manager.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN);
+        assertEquals(0, plot.getBufferBytes());
+        assertTrue(manager.getPooledBytes() > 0);
+
+        manager.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_COMPLETE);
+        assertEquals(0, manager.getPooledBytes());
+    }
+
+    @Test
+    public void testPlotsRegisterForTrimEvents() throws Exception {
+        renderFrame();
+        RuntimeEnvironment.application.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN);
+        assertEquals(0, plot.getBufferBytes());
+    }
+
+    @Test
+    public void testHiddenPlotReleasesBuffers() throws Exception {
+        renderFrame();
+        Deencapsulation.invoke(plot, "onWindowVisibilityChanged", View.GONE);
+        assertEquals(0, plot.getBufferBytes());
+    }
+
+    @Test
+    public void testTotalBytes() throws Exception {
+        renderFrame();
+        assertEquals(manager.getPlotBufferBytes() + manager.getPooledBytes(), manager.getTotalBytes());
+    }
+
+    @Test
+    public void testReleaseDoesNotWaitForRender() throws Exception {
+        final CountDownLatch released = new CountDownLatch(1);
+        final Thread[] releasedOn = new Thread[1];
+        final XYPlot plot = new XYPlot(getContext(), "Test", Plot.RenderMode.USE_BACKGROUND_THREAD) {
+            @Override
+            protected void onReleaseBuffers() {
+                super.onReleaseBuffers();
+                releasedOn[0] = Thread.currentThread();
+                released.countDown();
+            }
+        };
+        SwapChain chain = Deencapsulation.getField(plot, "swapChain");
+        chain.resize(20, 10);
+
+        // stand in for a long render by holding the plot's monitor, which rendering requires:
+        final CountDownLatch holding = new CountDownLatch(1);
+        final CountDownLatch finishRender = new CountDownLatch(1);
+        Thread renderBlocker = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                synchronized (plot) {
+                    holding.countDown();
+                    try {
+                        finishRender.await();
+                    } catch (InterruptedException ignored) {}
+                }
+            }
+        });
+        renderBlocker.start();
+        assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+        // the render thread begins its first frame immediately and blocks mid-frame:
+        Thread renderThread = Deencapsulation.getField(plot, "renderThread");
+        Deencapsulation.setField(plot, "renderThreadRunning", true);
+        renderThread.start();
+        while (renderThread.getState() != Thread.State.BLOCKED) {
+            Thread.sleep(5);
+        }
+
+        ExecutorService uiThread = Executors.newSingleThreadExecutor();
+        try {
+            uiThread.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    plot.releaseBuffers();
+                    return null;
+                }
+            }).get(5, TimeUnit.SECONDS);
+            assertNull(releasedOn[0]);
+
+            // caches are freed by the render thread once its frame is done:
+            finishRender.countDown();
+            assertTrue(released.await(5, TimeUnit.SECONDS));
+            assertSame(renderThread, releasedOn[0]);
+        } finally {
+            finishRender.countDown();
+            uiThread.shutdown();
+            Deencapsulation.invoke(plot, "onDetachedFromWindow");
+            renderThread.join(5000);
+        }
+    }
+}
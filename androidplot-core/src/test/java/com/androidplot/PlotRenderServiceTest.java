@@ -0,0 +1,182 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.androidplot;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import com.androidplot.test.AndroidplotTest;
+import com.androidplot.util.BitmapPool;
+import com.androidplot.xy.LineAndPointFormatter;
+import com.androidplot.xy.SimpleXYSeries;
+import com.androidplot.xy.XYPlot;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+public class PlotRenderServiceTest extends AndroidplotTest {
+
+    PlotRenderService service;
+
+    static final PlotRenderService.PlotFactory FACTORY = new PlotRenderService.PlotFactory() {
+        @Override
+        public Plot createPlot(Context context) {
+            XYPlot plot = new XYPlot(context, "Test");
+            plot.addSeries(new SimpleXYSeries(Arrays.asList(1, 4, 2, 8),
+                    SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "s1"), new LineAndPointFormatter());
+            return plot;
+        }
+    };
+
+    @Before
+    public void setUp() throws Exception {
+        service = new PlotRenderService(getContext(), 2, 4,
+                new BitmapPool(1024 * 1024), Bitmap.Config.ARGB_8888);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        service.shutdown();
+    }
+
+    @Test
+    public void testRenderMany() throws Exception {
+        List<Future<Bitmap>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            results.add(service.submit(FACTORY, 100, 50));
+        }
+        for (Future<Bitmap> result : results) {
+            Bitmap bitmap = result.get();
+            assertEquals(100, bitmap.getWidth());
+            assertEquals(50, bitmap.getHeight());
+        }
+    }
+
+    @Test
+    public void testRecycledBitmapIsReused() throws Exception {
+        Bitmap bitmap = service.submit(FACTORY, 100, 50).get();
+        service.recycle(bitmap);
+        assertSame(bitmap, service.submit(FACTORY, 100, 50).get());
+    }
+
+    @Test
+    public void testErrorIsDelivered() throws Exception {
+        final Exception[] error = new Exception[1];
+        Future<Bitmap> result = service.submit(new PlotRenderService.PlotFactory() {
+            @Override
+            public Plot createPlot(Context context) {
+                throw new IllegalStateException("test");
+            }
+        }, 100, 50, new PlotRenderService.Callback() {
+            @Override
+            public void onRendered(Bitmap bitmap) {}
+
+            @Override
+            public void onError(Exception e) {
+                error[0] = e;
+            }
+        });
+        try {
+            result.get();
+            fail("Expected an ExecutionException.");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertTrue(error[0] instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testFailedCallbackReleasesBitmap() throws Exception {
+        final Bitmap[] rendered = new Bitmap[1];
+        final Exception[] error = new Exception[1];
+        Future<Bitmap> result = service.submit(FACTORY, 100, 50, new PlotRenderService.Callback() {
+            @Override
+            public void onRendered(Bitmap bitmap) {
+                rendered[0] = bitmap;
+                throw new IllegalStateException("test");
+            }
+
+            @Override
+            public void onError(Exception e) {
+                error[0] = e;
+            }
+        });
+        try {
+            result.get();
+            fail("Expected an ExecutionException.");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+
+        // the callback's own failure is not reported as a render error:
+        assertNull(error[0]);
+
+        // and the bitmap went back to the pool:
+        assertSame(rendered[0], service.submit(FACTORY, 100, 50).get());
+    }
+
+    @Test
+    public void testBackPressure() throws Exception {
+        final Object gate = new Object();
+        final boolean[] open = {false};
+        PlotRenderService.PlotFactory blocking = new PlotRenderService.PlotFactory() {
+            @Override
+            public Plot createPlot(Context context) {
+                synchronized (gate) {
+                    while (!open[0]) {
+                        try {
+                            gate.wait();
+                        } catch (InterruptedException e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+                }
+                return FACTORY.createPlot(context);
+            }
+        };
+        List<Future<Bitmap>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(service.submit(blocking, 100, 50));
+        }
+
+        // all permits are taken:
+        assertNull(service.trySubmit(FACTORY, 100, 50, null, 10, TimeUnit.MILLISECONDS));
+
+        synchronized (gate) {
+            open[0] = true;
+            gate.notifyAll();
+        }
+        for (Future<Bitmap> result : results) {
+            result.get();
+        }
+        Future<Bitmap> result = service.trySubmit(FACTORY, 100, 50, null, 1, TimeUnit.SECONDS);
+        assertEquals(100, result.get().getWidth());
+    }
+}
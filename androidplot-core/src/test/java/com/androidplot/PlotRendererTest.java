@@ -0,0 +1,79 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.androidplot;
+
+import android.graphics.Bitmap;
+import com.androidplot.test.AndroidplotTest;
+import com.androidplot.util.DisplayDimensions;
+import com.androidplot.xy.LineAndPointFormatter;
+import com.androidplot.xy.SimpleXYSeries;
+import com.androidplot.xy.XYPlot;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertSame;
+
+public class PlotRendererTest extends AndroidplotTest {
+
+    XYPlot plot;
+
+    @Before
+    public void setUp() throws Exception {
+        plot = new XYPlot(getContext(), "Test");
+        plot.addSeries(new SimpleXYSeries(Arrays.asList(1, 4, 2, 8),
+                SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "s1"), new LineAndPointFormatter());
+    }
+
+    @Test
+    public void testRenderCreatesBitmap() throws Exception {
+        Bitmap bitmap = PlotRenderer.render(plot, 200, 100, null);
+        assertEquals(200, bitmap.getWidth());
+        assertEquals(100, bitmap.getHeight());
+        assertEquals(200f, plot.getDisplayDimensions().canvasRect.width());
+        assertEquals(100f, plot.getDisplayDimensions().canvasRect.height());
+    }
+
+    @Test
+    public void testBitmapAndLayoutAreReused() throws Exception {
+        Bitmap bitmap = PlotRenderer.render(plot, 200, 100, null);
+        DisplayDimensions dims = plot.getDisplayDimensions();
+
+        assertSame(bitmap, PlotRenderer.render(plot, 200, 100, bitmap));
+        assertSame(dims, plot.getDisplayDimensions());
+
+        // different size; neither can be reused:
+        Bitmap resized = PlotRenderer.render(plot, 300, 100, bitmap);
+        assertNotSame(bitmap, resized);
+        assertNotSame(dims, plot.getDisplayDimensions());
+    }
+
+    @Test
+    public void testImmutableBitmapIsNotReused() throws Exception {
+        Bitmap immutable = Bitmap.createBitmap(new int[200 * 100], 200, 100, Bitmap.Config.ARGB_8888);
+        assertNotSame(immutable, PlotRenderer.render(plot, 200, 100, immutable));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSize() throws Exception {
+        PlotRenderer.render(plot, 0, 100, null);
+    }
+}
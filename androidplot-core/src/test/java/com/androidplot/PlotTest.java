@@ -35,6 +35,7 @@ import java.util.HashMap;
 import java.util.List;
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertSame;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -312,35 +313,31 @@ public class PlotTest {
     @Test
     public void testAddListener() throws Exception {
         Plot plot = new MockPlot("MockPlot");
-        ArrayList<PlotListener> listeners = Deencapsulation.getField(plot, "listeners");
-
-        assertEquals(0, listeners.size());
+        assertEquals(0, listenerCount(plot));
 
         MockPlotListener pl1 = new MockPlotListener();
         MockPlotListener pl2 = new MockPlotListener();
 
         plot.addListener(pl1);
 
-        assertEquals(1, listeners.size());
+        assertEquals(1, listenerCount(plot));
 
         // should return false on a double entry attempt
         assertFalse(plot.addListener(pl1));
 
         // make sure the listener wasnt added anyway:
-        assertEquals(1, listeners.size());
+        assertEquals(1, listenerCount(plot));
 
         plot.addListener(pl2);
 
-        assertEquals(2, listeners.size());
+        assertEquals(2, listenerCount(plot));
                 
     }
 
     @Test
     public void testRemoveListener() throws Exception {
         Plot plot = new MockPlot("MockPlot");
-        ArrayList<PlotListener> listeners = Deencapsulation.getField(plot, "listeners");
-
-        assertEquals(0, listeners.size());
+        assertEquals(0, listenerCount(plot));
 
         MockPlotListener pl1 = new MockPlotListener();
         MockPlotListener pl2 = new MockPlotListener();
@@ -349,21 +346,21 @@ public class PlotTest {
         plot.addListener(pl1);
         plot.addListener(pl2);
 
-        assertEquals(2, listeners.size());
+        assertEquals(2, listenerCount(plot));
 
         assertFalse(plot.removeListener(pl3));
 
         assertTrue(plot.removeListener(pl1));
 
-        assertEquals(1, listeners.size());
+        assertEquals(1, listenerCount(plot));
 
         assertFalse(plot.removeListener(pl1));
 
-        assertEquals(1, listeners.size());
+        assertEquals(1, listenerCount(plot));
 
         assertTrue(plot.removeListener(pl2));
 
-        assertEquals(0, listeners.size());
+        assertEquals(0, listenerCount(plot));
 
     }
 
@@ -385,4 +382,45 @@ public class PlotTest {
         assertEquals(Plot.RenderMode.USE_BACKGROUND_THREAD, plot.getRenderMode());
         assertEquals(Color.parseColor(param3), plot.getBackgroundPaint().getColor());
     }
+
+    @Test
+    public void testListenerAddedWhileDrawing() throws Exception {
+        final Plot plot = new MockPlot("MockPlot");
+        final int[] afterDrawCalls = new int[1];
+        final MockPlotListener added = new MockPlotListener() {
+            @Override
+            public void onAfterDraw(Plot source, Canvas canvas) {
+                afterDrawCalls[0]++;
+            }
+        };
+        plot.addListener(new MockPlotListener() {
+            @Override
+            public void onBeforeDraw(Plot source, Canvas canvas) {
+                plot.addListener(added);
+            }
+        });
+
+        Deencapsulation.invoke(plot, "renderOnCanvas", new Canvas());
+
+        // only notified after frames it was also notified before:
+        assertEquals(0, afterDrawCalls[0]);
+        assertEquals(2, listenerCount(plot));
+
+        Deencapsulation.invoke(plot, "renderOnCanvas", new Canvas());
+        assertEquals(1, afterDrawCalls[0]);
+    }
+
+    @Test
+    public void testStyleablesResolvedOncePerClass() throws Exception {
+        Plot plot1 = new MockPlot("MockPlot1");
+        Plot plot2 = new MockPlot("MockPlot2");
+        Object styleables = Deencapsulation.invoke(plot1, "getStyleables");
+        assertSame(styleables, Deencapsulation.invoke(plot1, "getStyleables"));
+        assertSame(styleables, Deencapsulation.invoke(plot2, "getStyleables"));
+    }
+
+    private static int listenerCount(Plot plot) {
+        PlotListener[] listeners = Deencapsulation.getField(plot, "listeners");
+        return listeners.length;
+    }
 }
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.androidplot;
+
+import android.graphics.Bitmap;
+import com.androidplot.test.AndroidplotTest;
+import com.androidplot.util.BitmapPool;
+import com.androidplot.xy.LineAndPointFormatter;
+import com.androidplot.xy.SimpleXYSeries;
+import com.androidplot.xy.XYPlot;
+import mockit.Deencapsulation;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class PlotThumbnailCacheTest extends AndroidplotTest {
+
+    // runs renders only when asked to:
+    static class QueueExecutor implements Executor {
+        List<Runnable> queue = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            queue.add(command);
+        }
+
+        void runAll() {
+            List<Runnable> tasks = queue;
+            queue = new ArrayList<>();
+            for (Runnable task : tasks) {
+                task.run();
+            }
+        }
+    }
+
+    XYPlot plot;
+    QueueExecutor executor;
+    List<String> bound;
+    String failOn;
+    PlotThumbnailCache<String> cache;
+
+    @Before
+    public void setUp() throws Exception {
+        plot = new XYPlot(getContext(), "Test");
+        executor = new QueueExecutor();
+        bound = new ArrayList<>();
+        cache = new PlotThumbnailCache<>(plot, new PlotThumbnailCache.Binder<String>() {
+            @Override
+            public void bind(Plot plot, String key) {
+                bound.add(key);
+                if (key.equals(failOn)) {
+                    throw new IllegalStateException("bind failed");
+                }
+                plot.clear();
+                plot.addSeries(new SimpleXYSeries(Arrays.asList(1, 4, 2, 8),
+                        SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, key), new LineAndPointFormatter());
+            }
+        }, Long.MAX_VALUE, executor);
+    }
+
+    @Test
+    public void testRendersOnce() throws Exception {
+        assertNull(cache.get("a", 1, 200, 100));
+        assertNull(cache.get("a", 1, 200, 100));
+        assertEquals(1, executor.queue.size());
+        executor.runAll();
+
+        Bitmap bitmap = cache.get("a", 1, 200, 100);
+        assertNotNull(bitmap);
+        assertEquals(200, bitmap.getWidth());
+        assertEquals(100, bitmap.getHeight());
+        assertSame(bitmap, cache.get("a", 1, 200, 100));
+        assertEquals(0, executor.queue.size());
+        assertEquals(Arrays.asList("a"), bound);
+        assertEquals(BitmapPool.sizeOf(bitmap), cache.getCachedBytes());
+    }
+
+    @Test
+    public void testNewVersionReturnsPreviousImageUntilRendered() throws Exception {
+        cache.get("a", 1, 200, 100);
+        executor.runAll();
+        Bitmap v1 = cache.get("a", 1, 200, 100);
+
+        assertSame(v1, cache.get("a", 2, 200, 100));
+        executor.runAll();
+        Bitmap v2 = cache.get("a", 2, 200, 100);
+        assertNotNull(v2);
+        assertNotSame(v1, v2);
+    }
+
+    @Test
+    public void testSupersededRenderIsSkipped() throws Exception {
+        cache.get("a", 1, 200, 100);
+        cache.get("a", 2, 200, 100);
+        executor.runAll();
+        assertEquals(1, bound.size());
+        assertNotNull(cache.get("a", 2, 200, 100));
+        assertEquals(0, executor.queue.size());
+    }
+
+    @Test
+    public void testListenerNotified() throws Exception {
+        final List<String> ready = new ArrayList<>();
+        cache.setListener(new PlotThumbnailCache.Listener<String>() {
+            @Override
+            public void onThumbnailReady(String key, Bitmap bitmap) {
+                ready.add(key);
+            }
+        });
+        cache.get("a", 1, 200, 100);
+        executor.runAll();
+        assertEquals(Arrays.asList("a"), ready);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() throws Exception {
+        cache.get("a", 1, 200, 100);
+        executor.runAll();
+        final long size = cache.getCachedBytes();
+        cache.setMaxBytes(size * 2);
+
+        cache.get("b", 1, 200, 100);
+        executor.runAll();
+        // touch a so that b becomes the eldest:
+        cache.get("a", 1, 200, 100);
+        cache.get("c", 1, 200, 100);
+        executor.runAll();
+
+        assertEquals(size * 2, cache.getCachedBytes());
+        assertNotNull(cache.get("a", 1, 200, 100));
+        assertNull(cache.get("b", 1, 200, 100));
+    }
+
+    @Test
+    public void testFailedRenderIsRetried() throws Exception {
+        failOn = "a";
+        cache.get("a", 1, 200, 100);
+        executor.runAll();
+        assertNull(cache.get("a", 1, 200, 100));
+
+        // the failure cleared the pending render so the get above scheduled another:
+        assertEquals(1, executor.queue.size());
+        failOn = null;
+        executor.runAll();
+        assertNotNull(cache.get("a", 1, 200, 100));
+        assertEquals(Arrays.asList("a", "a"), bound);
+    }
+
+    @Test
+    public void testImageLargerThanMaxBytesIsKept() throws Exception {
+        cache.setMaxBytes(1);
+        cache.get("a", 1, 200, 100);
+        executor.runAll();
+
+        Bitmap bitmap = cache.get("a", 1, 200, 100);
+        assertNotNull(bitmap);
+        assertSame(bitmap, cache.get("a", 1, 200, 100));
+        assertEquals(0, executor.queue.size());
+        assertEquals(Arrays.asList("a"), bound);
+    }
+
+    @Test
+    public void testEntriesWithoutImagesAreDropped() throws Exception {
+        failOn = "a";
+        cache.get("a", 1, 200, 100);
+        executor.runAll();
+        failOn = null;
+
+        cache.get("b", 1, 200, 100);
+        executor.runAll();
+
+        @SuppressWarnings("unchecked")
+        final Map<String, ?> entries = Deencapsulation.getField(cache, "entries");
+        assertEquals(1, entries.size());
+        assertTrue(entries.containsKey("b"));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot;
+
+import com.androidplot.ui.Formatter;
+import com.androidplot.ui.SeriesAndFormatter;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+public class SeriesRegistryTest {
+
+    SeriesRegistry<Series, Formatter> registry;
+    Series s1;
+    Series s2;
+    SeriesAndFormatter<Series, Formatter> s1r1;
+    SeriesAndFormatter<Series, Formatter> s1r2;
+    SeriesAndFormatter<Series, Formatter> s2r1;
+
+    @Before
+    public void setUp() throws Exception {
+        registry = new SeriesRegistry<>();
+        s1 = new PlotTest.MockSeries();
+        s2 = new PlotTest.MockSeries();
+        s1r1 = new SeriesAndFormatter<Series, Formatter>(s1, new PlotTest.MockFormatter1());
+        s1r2 = new SeriesAndFormatter<Series, Formatter>(s1, new PlotTest.MockFormatter2());
+        s2r1 = new SeriesAndFormatter<Series, Formatter>(s2, new PlotTest.MockFormatter1());
+        registry.add(s1r1);
+        registry.add(s1r2);
+        registry.add(s2r1);
+    }
+
+    @Test
+    public void testLookups() throws Exception {
+        assertEquals(Arrays.asList(s1, s1, s2), registry.getSeriesList());
+        assertEquals(Arrays.asList(s1r1, s2r1),
+                registry.getSeriesAndFormatterList(PlotTest.MockRenderer1.class));
+        assertEquals(Arrays.asList(s1), registry.getSeriesList(PlotTest.MockRenderer2.class));
+        assertEquals(Arrays.asList(s1r1, s1r2), registry.get(s1));
+        assertSame(s1r2, registry.get(s1, PlotTest.MockRenderer2.class));
+        assertNull(registry.get(s2, PlotTest.MockRenderer2.class));
+    }
+
+    @Test
+    public void testIndexFollowsModifications() throws Exception {
+        assertTrue(registry.remove(s1r1));
+        assertEquals(Arrays.asList(s2r1),
+                registry.getSeriesAndFormatterList(PlotTest.MockRenderer1.class));
+        assertEquals(Arrays.asList(s1r2), registry.get(s1));
+
+        // modifications that aren't applied incrementally:
+        for(Iterator<SeriesAndFormatter<Series, Formatter>> it = registry.iterator();
+                it.hasNext();) {
+            if(it.next() == s2r1) {
+                it.remove();
+            }
+        }
+        assertEquals(0, registry.getSeriesAndFormatterList(PlotTest.MockRenderer1.class).size());
+        assertEquals(0, registry.get(s2).size());
+
+        registry.set(0, s2r1);
+        assertEquals(Arrays.asList(s2), registry.getSeriesList());
+        assertEquals(0, registry.get(s1).size());
+
+        registry.clear();
+        assertEquals(0, registry.getSeriesList().size());
+    }
+
+    @Test
+    public void testListsAreCopies() throws Exception {
+        List<SeriesAndFormatter<Series, Formatter>> pairs =
+                registry.getSeriesAndFormatterList(PlotTest.MockRenderer1.class);
+        for(SeriesAndFormatter<Series, Formatter> pair : pairs) {
+            // removing while iterating a copy is fine:
+            registry.remove(pair);
+        }
+        assertEquals(2, pairs.size());
+        assertEquals(0, registry.getSeriesList(PlotTest.MockRenderer1.class).size());
+
+        List<Series> series = registry.getSeriesList();
+        series.clear();
+        assertEquals(Arrays.asList(s1), registry.getSeriesList());
+    }
+
+    @Test
+    public void testViewsStayLiveAcrossRebuilds() throws Exception {
+        List<Series> all = registry.getSeriesView();
+        List<SeriesAndFormatter<Series, Formatter>> r1 =
+                registry.getSeriesAndFormatterView(PlotTest.MockRenderer1.class);
+
+        // set() forces the index to be rebuilt:
+        registry.set(0, s1r2);
+        assertEquals(Arrays.asList(s1, s1, s2), registry.getSeriesView());
+        assertSame(all, registry.getSeriesView());
+        assertSame(r1, registry.getSeriesAndFormatterView(PlotTest.MockRenderer1.class));
+        assertEquals(Arrays.asList(s2r1), r1);
+    }
+}
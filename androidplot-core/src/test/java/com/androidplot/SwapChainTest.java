@@ -0,0 +1,136 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import com.androidplot.test.AndroidplotTest;
+import com.androidplot.util.BitmapPool;
+import mockit.Deencapsulation;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class SwapChainTest extends AndroidplotTest {
+
+    private static Bitmap render(SwapChain chain) {
+        Canvas canvas = chain.beginFrame();
+        assertNotNull(canvas);
+        Object back = Deencapsulation.getField(chain, "back");
+        Bitmap bitmap = Deencapsulation.getField(back, "bitmap");
+        chain.endFrame();
+        return bitmap;
+    }
+
+    @Test
+    public void testNoFrameUntilSized() throws Exception {
+        SwapChain chain = new SwapChain(Bitmap.Config.ARGB_4444);
+        assertNull(chain.beginFrame());
+        assertNull(chain.getLatestFrame());
+    }
+
+    @Test
+    public void testLatestFrameIsDisplayed() throws Exception {
+        SwapChain chain = new SwapChain(Bitmap.Config.ARGB_4444);
+        chain.resize(10, 10);
+        Bitmap first = render(chain);
+        assertSame(first, chain.getLatestFrame());
+
+        // no new frame; keep displaying the current one:
+        assertSame(first, chain.getLatestFrame());
+
+        // frames rendered while the display thread is busy are skipped in favor of the newest:
+        render(chain);
+        Bitmap third = render(chain);
+        assertSame(third, chain.getLatestFrame());
+    }
+
+    @Test
+    public void testDisplayedFrameIsNeverRenderedInto() throws Exception {
+        SwapChain chain = new SwapChain(Bitmap.Config.ARGB_4444);
+        chain.resize(10, 10);
+        render(chain);
+        Bitmap displayed = chain.getLatestFrame();
+        for (int i = 0; i < 5; i++) {
+            assertNotSame(displayed, render(chain));
+        }
+        Object front = Deencapsulation.getField(chain, "front");
+        assertSame(displayed, Deencapsulation.getField(front, "bitmap"));
+    }
+
+    @Test
+    public void testConfigAndSizeChanges() throws Exception {
+        SwapChain chain = new SwapChain(Bitmap.Config.ARGB_4444);
+        chain.resize(10, 10);
+        chain.setConfig(Bitmap.Config.ARGB_8888);
+        chain.resize(20, 30);
+        Bitmap bitmap = render(chain);
+        assertEquals(Bitmap.Config.ARGB_8888, bitmap.getConfig());
+        assertEquals(20, bitmap.getWidth());
+        assertEquals(30, bitmap.getHeight());
+    }
+
+    @Test
+    public void testReleaseReturnsBuffersToPool() throws Exception {
+        BitmapPool pool = new BitmapPool(1024 * 1024);
+        SwapChain chain = new SwapChain(Bitmap.Config.ARGB_4444);
+        chain.setBitmapPool(pool);
+        chain.resize(10, 10);
+        for (int i = 0; i < 3; i++) {
+            render(chain);
+            chain.getLatestFrame();
+        }
+        long allocated = chain.getAllocatedBytes();
+        assertTrue(allocated > 0);
+
+        // the display thread frees what it can reach; the render thread frees its own buffer:
+        chain.release();
+        assertTrue(chain.getAllocatedBytes() > 0);
+        chain.releaseBackBuffer();
+        assertEquals(0, chain.getAllocatedBytes());
+        assertEquals(allocated, pool.getPooledBytes());
+        assertNull(chain.getLatestFrame());
+
+        // buffers are recreated from the pool:
+        render(chain);
+        assertNotNull(chain.getLatestFrame());
+        assertTrue(pool.getPooledBytes() < allocated);
+    }
+
+    @Test
+    public void testReleaseMidFrame() throws Exception {
+        SwapChain chain = new SwapChain(Bitmap.Config.ARGB_4444);
+        chain.resize(10, 10);
+        render(chain);
+        chain.getLatestFrame();
+
+        // released by the display thread while the render thread is drawing:
+        Canvas canvas = chain.beginFrame();
+        chain.release();
+        assertNull(chain.getLatestFrame());
+        canvas.drawColor(0);
+        chain.endFrame();
+
+        // the frame in progress is still delivered:
+        assertNotNull(chain.getLatestFrame());
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.androidplot.test;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Picture;
+import org.robolectric.annotation.Implementation;
+import org.robolectric.annotation.Implements;
+
+/**
+ * Robolectric's Picture cannot be constructed without native support.  This shadow records
+ * onto a throwaway bitmap instead.
+ */
+@Implements(Picture.class)
+public class ShadowPicture {
+
+    // Picture's native constructor takes an int handle on older platforms, a long on newer ones:
+    public void __constructor__(int nativePicture, boolean fromStream) {}
+
+    public void __constructor__(long nativePicture) {}
+
+    @Implementation
+    public Canvas beginRecording(int width, int height) {
+        return new Canvas(Bitmap.createBitmap(Math.max(width, 1), Math.max(height, 1),
+                Bitmap.Config.ARGB_8888));
+    }
+
+    @Implementation
+    public void endRecording() {}
+
+    @Implementation
+    public void draw(Canvas canvas) {}
+}
@@ -24,6 +24,8 @@ import org.robolectric.RobolectricTestRunner;
 import java.util.Iterator;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertSame;
 
 @RunWith(RobolectricTestRunner.class)
 public class DynamicTableModelTest {
@@ -235,4 +237,27 @@ public class DynamicTableModelTest {
         assertEquals(1000f, cellRect.right);
         assertEquals(1000f, cellRect.bottom);
     }
+
+    @Test
+    public void testGetCells() throws Exception {
+        DynamicTableModel model = new DynamicTableModel(2, 2);
+        RectF tableRect = new RectF(0, 0, 1000, 2000);
+
+        RectF[] cells = model.getCells(tableRect, 10);
+        assertEquals(4, cells.length);
+        assertEquals(new RectF(500, 0, 1000, 1000), cells[1]);
+        assertEquals(new RectF(0, 1000, 500, 2000), cells[2]);
+
+        // same inputs; cached cells are reused:
+        assertSame(cells, model.getCells(new RectF(tableRect), 10));
+
+        // never more cells than elements:
+        assertEquals(3, model.getCells(tableRect, 3).length);
+
+        cells = model.getCells(tableRect, 3);
+        model.setNumColumns(3);
+        RectF[] resized = model.getCells(tableRect, 3);
+        assertNotSame(cells, resized);
+        assertEquals(new RectF(0, 0, 1000 / 3f, 1000), resized[0]);
+    }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot.ui;
+
+import com.androidplot.test.AndroidplotTest;
+import com.androidplot.xy.BarFormatter;
+import com.androidplot.xy.BarRenderer;
+import com.androidplot.xy.LineAndPointFormatter;
+import com.androidplot.xy.SimpleXYSeries;
+import com.androidplot.xy.XYPlot;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class RenderStackTest extends AndroidplotTest {
+
+    XYPlot plot;
+    RenderStack stack;
+    SimpleXYSeries s1;
+    SimpleXYSeries s2;
+
+    @Before
+    public void setUp() throws Exception {
+        plot = new XYPlot(getContext(), "test");
+        s1 = new SimpleXYSeries("s1");
+        s2 = new SimpleXYSeries("s2");
+        plot.addSeries(s1, new LineAndPointFormatter());
+        plot.addSeries(s2, new BarFormatter(0, 0));
+        stack = new RenderStack(plot);
+    }
+
+    @Test
+    public void testSyncReusesElements() throws Exception {
+        stack.sync();
+        ArrayList<RenderStack.StackElement> elements = new ArrayList<>(stack.getElements());
+        assertEquals(2, elements.size());
+
+        stack.disable(BarRenderer.class);
+        assertTrue(elements.get(0).isEnabled());
+        assertFalse(elements.get(1).isEnabled());
+
+        // unchanged registry; elements are kept and re-enabled:
+        stack.sync();
+        assertSame(elements.get(0), stack.getElements().get(0));
+        assertTrue(((RenderStack.StackElement) stack.getElements().get(1)).isEnabled());
+
+        plot.removeSeries(s1);
+        stack.sync();
+        assertEquals(1, stack.getElements().size());
+        RenderStack.StackElement element = (RenderStack.StackElement) stack.getElements().get(0);
+        assertSame(elements.get(0), element);
+        assertSame(s2, element.get().getSeries());
+
+        stack.disable(BarRenderer.class);
+        assertFalse(element.isEnabled());
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot.ui.widget;
+
+import android.graphics.Canvas;
+import android.graphics.RectF;
+import com.androidplot.exception.PlotRenderException;
+import com.androidplot.test.AndroidplotTest;
+import com.androidplot.ui.*;
+import com.androidplot.util.DisplayDimensions;
+import org.junit.Before;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+
+public class WidgetTest extends AndroidplotTest {
+
+    LayoutManager layoutManager;
+    Widget widget;
+
+    @Before
+    public void setUp() throws Exception {
+        layoutManager = new LayoutManager();
+        widget = new Widget(layoutManager, new Size(10, SizeLayoutType.ABSOLUTE,
+                20, SizeLayoutType.ABSOLUTE)) {
+            @Override
+            protected void doOnDraw(Canvas canvas, RectF widgetRect) throws PlotRenderException {}
+        };
+        widget.position(5, XLayoutStyle.ABSOLUTE_FROM_LEFT, 5, YLayoutStyle.ABSOLUTE_FROM_TOP,
+                AnchorPosition.LEFT_TOP);
+        RectF rect = new RectF(0, 0, 100, 100);
+        layoutManager.layout(new DisplayDimensions(rect, rect, rect));
+    }
+
+    @Test
+    public void testValidateLayout() throws Exception {
+        DisplayDimensions dims = widget.getWidgetDimensions();
+        assertEquals(new RectF(5, 5, 25, 15), dims.canvasRect);
+        assertEquals(5f, widget.getAnchorCoordinates().x);
+
+        // nothing changed so the cached layout is kept:
+        widget.validateLayout();
+        assertSame(dims, widget.getWidgetDimensions());
+
+        widget.setWidth(30);
+        widget.setAnchor(AnchorPosition.RIGHT_TOP);
+        widget.validateLayout();
+        assertEquals(new RectF(-25, 5, 5, 15), widget.getWidgetDimensions().canvasRect);
+        assertEquals(5f, widget.getAnchorCoordinates().x);
+        assertEquals(5f, widget.getAnchorCoordinates().y);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.androidplot.util;
+
+import android.graphics.Bitmap;
+import com.androidplot.test.AndroidplotTest;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class BitmapPoolTest extends AndroidplotTest {
+
+    @Test
+    public void testReleasedBitmapIsReused() throws Exception {
+        BitmapPool pool = new BitmapPool(1024 * 1024);
+        Bitmap bitmap = pool.acquire(10, 20, Bitmap.Config.ARGB_8888);
+        pool.release(bitmap);
+        assertEquals(BitmapPool.sizeOf(bitmap), pool.getPooledBytes());
+
+        // different size or config; not reused:
+        assertNotSame(bitmap, pool.acquire(20, 10, Bitmap.Config.ARGB_8888));
+        assertNotSame(bitmap, pool.acquire(10, 20, Bitmap.Config.RGB_565));
+
+        assertSame(bitmap, pool.acquire(10, 20, Bitmap.Config.ARGB_8888));
+        assertEquals(0, pool.getPooledBytes());
+    }
+
+    @Test
+    public void testPoolIsBounded() throws Exception {
+        Bitmap a = Bitmap.createBitmap(10, 10, Bitmap.Config.ARGB_8888);
+        Bitmap b = Bitmap.createBitmap(10, 10, Bitmap.Config.ARGB_8888);
+        BitmapPool pool = new BitmapPool(BitmapPool.sizeOf(a));
+        pool.release(a);
+        pool.release(b);
+        assertEquals(BitmapPool.sizeOf(a), pool.getPooledBytes());
+        assertTrue(b.isRecycled());
+    }
+
+    @Test
+    public void testTrimToSize() throws Exception {
+        BitmapPool pool = new BitmapPool(1024 * 1024);
+        Bitmap a = Bitmap.createBitmap(10, 10, Bitmap.Config.ARGB_8888);
+        Bitmap b = Bitmap.createBitmap(20, 10, Bitmap.Config.ARGB_8888);
+        pool.release(a);
+        pool.release(b);
+        pool.trimToSize(BitmapPool.sizeOf(b));
+        assertTrue(pool.getPooledBytes() <= BitmapPool.sizeOf(b));
+        pool.clear();
+        assertEquals(0, pool.getPooledBytes());
+        assertTrue(a.isRecycled());
+        assertTrue(b.isRecycled());
+    }
+}
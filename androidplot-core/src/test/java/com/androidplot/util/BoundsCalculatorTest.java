@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.androidplot.util;
+
+import com.androidplot.xy.SimpleXYSeries;
+import com.androidplot.xy.XYBounds;
+import com.androidplot.xy.XYConstraints;
+import com.androidplot.xy.XYSeries;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+
+public class BoundsCalculatorTest {
+
+    ExecutorService executor;
+    BoundsCalculator calculator;
+
+    @Before
+    public void setUp() throws Exception {
+        executor = Executors.newFixedThreadPool(4);
+        calculator = new BoundsCalculator(executor, 4, 16);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+    }
+
+    private List<XYSeries> randomSeries(int count, int maxSize) {
+        Random random = new Random(count);
+        List<XYSeries> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            List<Number> yVals = new ArrayList<>();
+            int size = random.nextInt(maxSize);
+            for (int j = 0; j < size; j++) {
+                yVals.add(random.nextInt(10) == 0 ? null : random.nextGaussian() * 100);
+            }
+            result.add(new SimpleXYSeries(yVals, SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "s" + i));
+        }
+        return result;
+    }
+
+    private static void assertBoundsEqual(XYBounds expected, XYBounds actual) {
+        assertEquals(expected.getMinX(), actual.getMinX());
+        assertEquals(expected.getMaxX(), actual.getMaxX());
+        assertEquals(expected.getMinY(), actual.getMinY());
+        assertEquals(expected.getMaxY(), actual.getMaxY());
+    }
+
+    @Test
+    public void testMatchesSequentialMinMax() throws Exception {
+        // many small series, a few large series and a mix of both:
+        for (int[] shape : new int[][]{{64, 20}, {3, 500}, {20, 200}}) {
+            List<XYSeries> series = randomSeries(shape[0], shape[1]);
+            assertBoundsEqual(SeriesUtils.minMax(null, series), calculator.calculate(null, series));
+        }
+    }
+
+    @Test
+    public void testMatchesSequentialMinMaxWithConstraints() throws Exception {
+        List<XYSeries> series = randomSeries(20, 200);
+        XYConstraints constraints = new XYConstraints(10, null, -50, null);
+        assertBoundsEqual(SeriesUtils.minMax(constraints, series),
+                calculator.calculate(constraints, series));
+    }
+
+    @Test
+    public void testFixedAxisIsSkipped() throws Exception {
+        List<XYSeries> series = randomSeries(20, 200);
+        XYBounds bounds = calculator.calculate(new XYConstraints(0, 100, null, null), series);
+        assertNull(bounds.getMinX());
+        assertNull(bounds.getMaxX());
+        assertNotNull(bounds.getMinY());
+
+        // restricting x still restricts which y values are included:
+        assertEquals(SeriesUtils.minMax(new XYConstraints(0, 100, null, null), series).getMaxY(),
+                bounds.getMaxY());
+
+        bounds = calculator.calculate(new XYConstraints(0, 100, 0, 100), series);
+        assertNull(bounds.getMinX());
+        assertNull(bounds.getMinY());
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        XYBounds bounds = calculator.calculate(null, new ArrayList<XYSeries>());
+        assertNull(bounds.getMinX());
+        assertNull(bounds.getMaxY());
+    }
+}
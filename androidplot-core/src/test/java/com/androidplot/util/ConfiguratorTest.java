@@ -21,6 +21,8 @@ import org.junit.runner.RunWith;
 import org.robolectric.RobolectricTestRunner;
 import java.lang.reflect.Method;
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertSame;
 
 @RunWith(RobolectricTestRunner.class)
 public class ConfiguratorTest {
@@ -61,6 +63,15 @@ public class ConfiguratorTest {
         }
     }
 
+    class D extends C {
+        @Override
+        public SubB getB() {
+            return new SubB();
+        }
+    }
+
+    class SubB extends B {}
+
     @org.junit.Before
     public void setUp() throws Exception {
 
@@ -88,4 +99,28 @@ public class ConfiguratorTest {
         assertEquals(1, m.getParameterTypes().length);
         assertEquals(B.class, m.getParameterTypes()[0]);
     }
+
+    @Test
+    public void testAccessorsAreCached() throws Exception {
+        assertSame(Configurator.getSetter(C.class, "b"), Configurator.getSetter(C.class, "B"));
+        assertSame(Configurator.getGetter(B.class, "a"), Configurator.getGetter(B.class, "a"));
+        assertEquals(A.class, Configurator.getGetter(B.class, "a").getReturnType());
+    }
+
+    @Test
+    public void testGetGetterPrefersCovariantOverride() throws Exception {
+        Method m = Configurator.getGetter(D.class, "b");
+        assertEquals(SubB.class, m.getReturnType());
+        assertFalse(m.isBridge());
+    }
+
+    @Test(expected = NoSuchMethodException.class)
+    public void testGetSetterMissing() throws Exception {
+        Configurator.getSetter(C.class, "doesNotExist");
+    }
+
+    @Test(expected = NoSuchMethodException.class)
+    public void testGetGetterMissing() throws Exception {
+        Configurator.getGetter(C.class, "doesNotExist");
+    }
 }
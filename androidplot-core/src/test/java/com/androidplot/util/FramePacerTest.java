@@ -0,0 +1,70 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot.util;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class FramePacerTest {
+
+    private static final long MS = 1000000L;
+
+    @Test
+    public void testDelayCompensatesForElapsedTime() throws Exception {
+        FramePacer pacer = new FramePacer(50); // 20ms period
+        assertEquals(20 * MS, pacer.nextDelay(0));
+
+        // the next frame ran 5ms late; the following delay is shortened to stay on schedule:
+        assertEquals(15 * MS, pacer.nextDelay(25 * MS));
+
+        // hopelessly behind; start over rather than bursting frames to catch up:
+        assertEquals(0, pacer.nextDelay(500 * MS));
+        assertEquals(20 * MS, pacer.nextDelay(500 * MS));
+    }
+
+    @Test
+    public void testBacksOffWhenOverrunning() throws Exception {
+        FramePacer pacer = new FramePacer(50);
+        pacer.onFrameRendered(40 * MS);
+        assertEquals(50 * MS, pacer.getPeriod());
+
+        // recovers gradually, but never beyond the target rate:
+        for (int i = 0; i < 100; i++) {
+            pacer.onFrameRendered(MS);
+        }
+        assertEquals(20 * MS, pacer.getPeriod());
+    }
+
+    @Test
+    public void testPeriodIsCapped() throws Exception {
+        FramePacer pacer = new FramePacer(50);
+        pacer.onFrameRendered(10000 * MS);
+        assertTrue(pacer.getPeriod() <= 1000 * MS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroRateIsRejected() throws Exception {
+        new FramePacer(50).setTargetRate(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeRateIsRejected() throws Exception {
+        new FramePacer(-1);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot.util;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static junit.framework.Assert.assertEquals;
+
+public class FrameSchedulerTest {
+
+    @Test
+    public void testRequestsAreCoalesced() throws Exception {
+        ManualFrameClock clock = new ManualFrameClock();
+        final AtomicInteger frames = new AtomicInteger();
+        FrameScheduler scheduler = new FrameScheduler(clock, new Runnable() {
+            @Override
+            public void run() {
+                frames.incrementAndGet();
+            }
+        });
+
+        for (int i = 0; i < 100; i++) {
+            scheduler.requestFrame();
+        }
+        assertEquals(1, clock.getPendingCount());
+        assertEquals(0, frames.get());
+
+        clock.tick();
+        assertEquals(1, frames.get());
+
+        // no requests; nothing to do:
+        clock.tick();
+        assertEquals(1, frames.get());
+        assertEquals(0, clock.getPendingCount());
+    }
+
+    @Test
+    public void testRequestDuringFrameIsNotLost() throws Exception {
+        final ManualFrameClock clock = new ManualFrameClock();
+        final AtomicInteger frames = new AtomicInteger();
+        final FrameScheduler[] scheduler = new FrameScheduler[1];
+        scheduler[0] = new FrameScheduler(clock, new Runnable() {
+            @Override
+            public void run() {
+                // simulate new data arriving mid-render:
+                if (frames.incrementAndGet() == 1) {
+                    scheduler[0].requestFrame();
+                }
+            }
+        });
+
+        scheduler[0].requestFrame();
+        clock.tick();
+        assertEquals(1, frames.get());
+        assertEquals(1, clock.getPendingCount());
+
+        clock.tick();
+        assertEquals(2, frames.get());
+        assertEquals(0, clock.getPendingCount());
+    }
+
+    @Test
+    public void testSetClockTransfersPendingFrame() throws Exception {
+        ManualFrameClock clock1 = new ManualFrameClock();
+        ManualFrameClock clock2 = new ManualFrameClock();
+        final AtomicInteger frames = new AtomicInteger();
+        FrameScheduler scheduler = new FrameScheduler(clock1, new Runnable() {
+            @Override
+            public void run() {
+                frames.incrementAndGet();
+            }
+        });
+        scheduler.requestFrame();
+        scheduler.setClock(clock2);
+        clock2.tick();
+        assertEquals(1, frames.get());
+
+        // the stale tick on the old clock must not result in an extra frame:
+        clock1.tick();
+        assertEquals(1, frames.get());
+    }
+}
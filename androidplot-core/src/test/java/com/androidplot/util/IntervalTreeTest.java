@@ -0,0 +1,93 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot.util;
+
+import com.androidplot.LineRegion;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+
+public class IntervalTreeTest {
+
+    private static final IntervalTree.Extractor<LineRegion> EXTRACTOR =
+            new IntervalTree.Extractor<LineRegion>() {
+                @Override
+                public LineRegion getInterval(LineRegion element) {
+                    return element;
+                }
+            };
+
+    @Test
+    public void testFindOverlapping() throws Exception {
+        LineRegion l1 = new LineRegion(0, 10);
+        LineRegion l2 = new LineRegion(5, 15);
+        LineRegion l3 = new LineRegion(20, 30);
+        LineRegion l4 = new LineRegion(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        IntervalTree<LineRegion> tree = new IntervalTree<>(Arrays.asList(l3, l1, l4, l2), EXTRACTOR);
+
+        // results are in original order:
+        assertEquals(Arrays.asList(l1, l4, l2), tree.findOverlapping(7, 12));
+        assertEquals(Arrays.asList(l3, l4), tree.findOverlapping(16, 20));
+        assertEquals(Arrays.asList(l4), tree.findOverlapping(-5, -1));
+        assertEquals(Arrays.asList(l1, l4, l2), tree.findContaining(10));
+    }
+
+    @Test
+    public void testFindFirstContaining() throws Exception {
+        LineRegion l1 = new LineRegion(0, 10);
+        LineRegion l2 = new LineRegion(5, 15);
+        IntervalTree<LineRegion> tree = new IntervalTree<>(Arrays.asList(l2, l1), EXTRACTOR);
+        assertEquals(l2, tree.findFirstContaining(7));
+        assertEquals(l1, tree.findFirstContaining(2));
+        assertNull(tree.findFirstContaining(16));
+
+        assertNull(new IntervalTree<>(new ArrayList<LineRegion>(), EXTRACTOR).findFirstContaining(0));
+    }
+
+    @Test
+    public void testMatchesLinearScan() throws Exception {
+        Random random = new Random(0);
+        List<LineRegion> regions = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            double start = random.nextInt(1000);
+            regions.add(new LineRegion(start, start + random.nextInt(50)));
+        }
+        IntervalTree<LineRegion> tree = new IntervalTree<>(regions, EXTRACTOR);
+        for (int i = 0; i < 200; i++) {
+            double min = random.nextInt(1100) - 50;
+            double max = min + random.nextInt(100);
+            List<LineRegion> expected = new ArrayList<>();
+            LineRegion expectedFirst = null;
+            for (LineRegion r : regions) {
+                if (r.intersects(min, max)) {
+                    expected.add(r);
+                }
+                if (expectedFirst == null && r.contains(min)) {
+                    expectedFirst = r;
+                }
+            }
+            assertEquals(expected, tree.findOverlapping(min, max));
+            assertEquals(expectedFirst, tree.findFirstContaining(min));
+        }
+    }
+}
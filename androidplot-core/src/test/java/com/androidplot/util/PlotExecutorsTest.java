@@ -0,0 +1,56 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.androidplot.util;
+
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class PlotExecutorsTest {
+
+    @Test
+    public void testThreadsAreNamedDaemons() throws Exception {
+        Thread thread = PlotExecutors.newDaemonThreadFactory("Test Thread").newThread(new Runnable() {
+            @Override
+            public void run() {}
+        });
+        assertEquals("Test Thread", thread.getName());
+        assertTrue(thread.isDaemon());
+    }
+
+    @Test
+    public void testPoolRunsOnNamedDaemon() throws Exception {
+        ExecutorService executor = PlotExecutors.newFixedThreadPool(2, "Test Pool");
+        try {
+            Thread worker = executor.submit(new Callable<Thread>() {
+                @Override
+                public Thread call() throws Exception {
+                    return Thread.currentThread();
+                }
+            }).get();
+            assertEquals("Test Pool", worker.getName());
+            assertTrue(worker.isDaemon());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
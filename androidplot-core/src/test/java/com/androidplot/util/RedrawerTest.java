@@ -0,0 +1,92 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot.util;
+
+import com.androidplot.Plot;
+import com.androidplot.test.AndroidplotTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static junit.framework.Assert.assertEquals;
+
+public class RedrawerTest extends AndroidplotTest {
+
+    // records scheduled frames without ever running them:
+    static class RecordingExecutor extends ScheduledThreadPoolExecutor {
+        final List<Runnable> scheduled = new ArrayList<>();
+
+        RecordingExecutor() {
+            super(1);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            scheduled.add(command);
+            return super.schedule(command, 1, TimeUnit.DAYS);
+        }
+    }
+
+    RecordingExecutor executor;
+
+    @Before
+    public void setUp() throws Exception {
+        executor = new RecordingExecutor();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testFrameReschedulesWhileRunning() throws Exception {
+        Redrawer redrawer = new Redrawer(new ArrayList<Plot>(), 50, true, executor);
+        assertEquals(1, executor.scheduled.size());
+        executor.scheduled.get(0).run();
+        assertEquals(2, executor.scheduled.size());
+
+        redrawer.pause();
+        executor.scheduled.get(1).run();
+        assertEquals(2, executor.scheduled.size());
+    }
+
+    @Test
+    public void testRestartWhileRunningDoesNotDoubleChains() throws Exception {
+        Redrawer redrawer = new Redrawer(new ArrayList<Plot>(), 50, true, executor);
+        final Runnable running = executor.scheduled.get(0);
+
+        // paused and restarted while the first frame is in progress:
+        redrawer.pause();
+        redrawer.start();
+        assertEquals(2, executor.scheduled.size());
+
+        // the superseded frame finishes without scheduling a successor:
+        running.run();
+        assertEquals(2, executor.scheduled.size());
+
+        executor.scheduled.get(1).run();
+        assertEquals(3, executor.scheduled.size());
+        redrawer.finish();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot.util;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class ZOrderListTest {
+
+    ZOrderList<String> list;
+
+    @Before
+    public void setUp() throws Exception {
+        list = new ZOrderList<>();
+        list.addToTop("b");
+        list.addToTop("c");
+        list.addToBottom("a");
+    }
+
+    @Test
+    public void testAdd() throws Exception {
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+
+        // already present so it's moved rather than duplicated:
+        assertFalse(list.add("a"));
+        assertEquals(Arrays.asList("b", "c", "a"), list);
+
+        list.add(1, "d");
+        assertEquals(Arrays.asList("b", "d", "c", "a"), list);
+        assertEquals(2, list.indexOf("c"));
+        assertEquals(-1, list.indexOf("e"));
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        assertTrue(list.remove("b"));
+        assertFalse(list.remove("b"));
+        assertEquals(Arrays.asList("a", "c"), list);
+        assertEquals("c", list.remove(1));
+        assertEquals(Arrays.asList("a"), list);
+    }
+
+    @Test
+    public void testMoves() throws Exception {
+        assertTrue(list.moveToTop("a"));
+        assertEquals(Arrays.asList("b", "c", "a"), list);
+
+        assertTrue(list.moveToBottom("c"));
+        assertEquals(Arrays.asList("c", "b", "a"), list);
+
+        assertTrue(list.moveAbove("c", "b"));
+        assertEquals(Arrays.asList("b", "c", "a"), list);
+
+        assertTrue(list.moveBeneath("a", "b"));
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+
+        assertTrue(list.moveUp("a"));
+        assertEquals(Arrays.asList("b", "a", "c"), list);
+
+        assertTrue(list.moveDown("c"));
+        assertEquals(Arrays.asList("b", "c", "a"), list);
+
+        // already at the limits:
+        assertTrue(list.moveUp("a"));
+        assertTrue(list.moveDown("b"));
+        assertEquals(Arrays.asList("b", "c", "a"), list);
+
+        assertFalse(list.moveToTop("x"));
+        assertFalse(list.moveAbove("a", "x"));
+        assertEquals(3, list.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMoveAboveSelf() throws Exception {
+        list.moveAbove("a", "a");
+    }
+}
@@ -21,6 +21,9 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -43,7 +46,11 @@ public class RectRegionTest extends AndroidplotTest{
 
     @Test
     public void testContainsValue() throws Exception {
-
+        RectRegion region = new RectRegion(0, 10, 0, 10, "");
+        assertTrue(region.containsValue(5, 5));
+        assertTrue(region.containsValue(0, 10));
+        assertFalse(region.containsValue(5, 11));
+        assertFalse(region.containsValue(-1, 5));
     }
 
     @Test
@@ -81,4 +88,76 @@ public class RectRegionTest extends AndroidplotTest{
         assertTrue(region1.intersects(region5));
         assertTrue(region5.intersects(region1));
     }
+
+    @Test
+    public void testFormatterRegionsWithin() throws Exception {
+        LineAndPointFormatter formatter = new LineAndPointFormatter();
+        RectRegion r1 = new RectRegion(0, 10, 0, 10, "r1");
+        RectRegion r2 = new RectRegion(20, 30, 0, 10, "r2");
+        RectRegion r3 = new RectRegion(5, 25, 50, 60, "r3");
+        formatter.addRegion(r1, new XYRegionFormatter(0));
+        formatter.addRegion(r2, new XYRegionFormatter(0));
+        formatter.addRegion(r3, new XYRegionFormatter(0));
+
+        // results must match a linear scan, including z-order:
+        assertEquals(RectRegion.regionsWithin(formatter.getRegions().elements(), 8, 22, 0, 20),
+                formatter.getRegionsWithin(8, 22, 0, 20));
+        assertEquals(2, formatter.getRegionsWithin(8, 22, 0, 20).size());
+        assertEquals(formatter.getRegions().elements(),
+                formatter.getRegionsWithin(null, null, null, null));
+
+        formatter.getRegions().moveToTop(r2);
+        assertEquals(RectRegion.regionsWithin(formatter.getRegions().elements(), 8, 22, 0, 20),
+                formatter.getRegionsWithin(8, 22, 0, 20));
+
+        formatter.removeRegion(r2);
+        assertEquals(Arrays.asList(r1),
+                formatter.getRegionsWithin(8, 22, 0, 20));
+    }
+
+    @Test
+    public void testFormatterRegionsWithinAfterBoundsChange() throws Exception {
+        LineAndPointFormatter formatter = new LineAndPointFormatter();
+        RectRegion r1 = new RectRegion(0, 10, 0, 10, "r1");
+        RectRegion r2 = new RectRegion(20, 30, 0, 10, "r2");
+        formatter.addRegion(r1, new XYRegionFormatter(0));
+        formatter.addRegion(r2, new XYRegionFormatter(0));
+        assertEquals(Arrays.asList(r1), formatter.getRegionsWithin(0, 15, 0, 10));
+
+        // move r2 into the queried area without touching the formatter:
+        r2.setMinX(12);
+        assertEquals(2, formatter.getRegionsWithin(0, 15, 0, 10).size());
+        assertEquals(RectRegion.regionsWithin(formatter.getRegions().elements(), 0, 15, 0, 10),
+                formatter.getRegionsWithin(0, 15, 0, 10));
+
+        // and r1 out of it, vertically:
+        r1.setMinY(50);
+        r1.setMaxY(60);
+        assertEquals(Arrays.asList(r2), formatter.getRegionsWithin(0, 15, 0, 10));
+
+        // changes to regions owned by someone else leave results alone:
+        new RectRegion(0, 1, 0, 1).setMaxX(100);
+        assertEquals(Arrays.asList(r2), formatter.getRegionsWithin(0, 15, 0, 10));
+    }
+
+    @Test
+    public void testBoundsChangeOnlyInvalidatesOwners() throws Exception {
+        LineAndPointFormatter owner = new LineAndPointFormatter();
+        LineAndPointFormatter other = new LineAndPointFormatter();
+        RectRegion region = new RectRegion(0, 10, 0, 10);
+        owner.addRegion(region, new XYRegionFormatter(0));
+        other.addRegion(new RectRegion(0, 10, 0, 10), new XYRegionFormatter(0));
+
+        final int ownerModCount = owner.regions.getModCount();
+        final int otherModCount = other.regions.getModCount();
+        region.setMaxX(20);
+        assertTrue(owner.regions.getModCount() != ownerModCount);
+        assertEquals(otherModCount, other.regions.getModCount());
+
+        // removed regions no longer notify their former owner:
+        owner.removeRegion(region);
+        final int removedModCount = owner.regions.getModCount();
+        region.setMaxX(30);
+        assertEquals(removedModCount, owner.regions.getModCount());
+    }
 }
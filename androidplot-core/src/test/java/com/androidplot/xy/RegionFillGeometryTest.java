@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot.xy;
+
+import android.graphics.RectF;
+import com.androidplot.test.AndroidplotTest;
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+
+public class RegionFillGeometryTest extends AndroidplotTest {
+
+    private static RegionFillGeometry.Points line(float... xys) {
+        RegionFillGeometry.Points points = new RegionFillGeometry.Points();
+        for (int i = 0; i < xys.length; i += 2) {
+            points.add(xys[i], xys[i + 1]);
+        }
+        return points;
+    }
+
+    // shoelace formula:
+    private static float area(RegionFillGeometry.Points polygon) {
+        float sum = 0;
+        for (int i = 0; i < polygon.size; i++) {
+            int j = (i + 1) % polygon.size;
+            sum += polygon.xs[i] * polygon.ys[j] - polygon.xs[j] * polygon.ys[i];
+        }
+        return Math.abs(sum) / 2;
+    }
+
+    @Test
+    public void testFlatLine() throws Exception {
+        RegionFillGeometry geometry = new RegionFillGeometry();
+        RegionFillGeometry.Points polygon = geometry.intersect(
+                line(0, 50, 100, 50), new RectF(20, 0, 40, 80), 100);
+        assertEquals(20f * 30f, area(polygon), 0.01f);
+    }
+
+    @Test
+    public void testDiagonalLine() throws Exception {
+        RegionFillGeometry geometry = new RegionFillGeometry();
+        RegionFillGeometry.Points polygon = geometry.intersect(
+                line(0, 100, 100, 0), new RectF(0, 0, 100, 100), 100);
+        assertEquals(5000f, area(polygon), 0.01f);
+
+        // line crosses the region's top edge halfway through:
+        polygon = geometry.intersect(
+                line(0, 0, 100, 100), new RectF(0, 50, 100, 100), 100);
+        assertEquals(2500f + 1250f, area(polygon), 0.01f);
+    }
+
+    @Test
+    public void testRegionOutsideFill() throws Exception {
+        RegionFillGeometry geometry = new RegionFillGeometry();
+
+        // region sits entirely above the line:
+        RegionFillGeometry.Points polygon = geometry.intersect(
+                line(0, 50, 100, 50), new RectF(0, 0, 100, 40), 100);
+        assertEquals(0f, area(polygon), 0.01f);
+
+        // region sits entirely to the right of the line:
+        polygon = geometry.intersect(
+                line(0, 50, 100, 50), new RectF(150, 0, 200, 100), 100);
+        assertEquals(0, polygon.size);
+    }
+
+    @Test
+    public void testEdgeWithinRegion() throws Exception {
+        RegionFillGeometry geometry = new RegionFillGeometry();
+
+        // fill between y=20 and an origin at y=60; region covers 40 - 100:
+        RegionFillGeometry.Points polygon = geometry.intersect(
+                line(0, 20, 100, 20), new RectF(0, 40, 100, 100), 60);
+        assertEquals(100f * 20f, area(polygon), 0.01f);
+
+        // line crossing the edge:
+        polygon = geometry.intersect(
+                line(0, 0, 100, 100), new RectF(0, 0, 100, 100), 50);
+        assertEquals(2 * 1250f, area(polygon), 0.01f);
+    }
+
+    @Test
+    public void testStepLine() throws Exception {
+        RegionFillGeometry geometry = new RegionFillGeometry();
+        RegionFillGeometry.Points polygon = geometry.intersect(
+                line(0, 80, 50, 80, 50, 20, 100, 20), new RectF(25, 0, 75, 100), 100);
+        assertEquals(25f * 20f + 25f * 80f, area(polygon), 0.01f);
+    }
+}
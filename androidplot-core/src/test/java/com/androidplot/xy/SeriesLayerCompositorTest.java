@@ -0,0 +1,110 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot.xy;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import com.androidplot.Plot;
+import com.androidplot.test.AndroidplotTest;
+import mockit.Deencapsulation;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class SeriesLayerCompositorTest extends AndroidplotTest {
+
+    XYPlot plot;
+
+    @Before
+    public void setUp() throws Exception {
+        plot = new XYPlot(getContext(), "Test", Plot.RenderMode.USE_MAIN_THREAD);
+        plot.addSeries(new SimpleXYSeries(Arrays.asList(0, 10, 5, 20),
+                SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "s1"), new LineAndPointFormatter());
+        plot.addSeries(new SimpleXYSeries(Arrays.asList(5, 15, 10, 25),
+                SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "s2"), new LineAndPointFormatter());
+        plot.addSeries(new SimpleXYSeries(Arrays.asList(1, 2, 3, 4),
+                SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "b1"), new BarFormatter(0, 0));
+        plot.addSeries(new SimpleXYSeries(Arrays.asList(4, 3, 2, 1),
+                SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "b2"), new BarFormatter(0, 0));
+        Deencapsulation.invoke(plot, "onSizeChanged", 400, 300, 0, 0);
+    }
+
+    private void draw() {
+        Deencapsulation.invoke(plot, "onDraw",
+                new Canvas(Bitmap.createBitmap(400, 300, Bitmap.Config.ARGB_8888)));
+    }
+
+    @Test
+    public void testDisabledByDefault() throws Exception {
+        assertFalse(plot.isParallelSeriesRenderingEnabled());
+        assertNull(plot.getGraphWidget().getSeriesLayerCompositor());
+    }
+
+    @Test
+    public void testGroupRenderedSeriesDoNotUseLayers() throws Exception {
+        plot.setParallelSeriesRenderingEnabled(true);
+        SeriesLayerCompositor compositor = plot.getGraphWidget().getSeriesLayerCompositor();
+        assertNotNull(compositor);
+        draw();
+
+        // only the two line series are rasterized into layers:
+        assertEquals(2, compositor.getLayerCount());
+
+        // layers are reused between frames:
+        draw();
+        assertEquals(2, compositor.getLayerCount());
+    }
+
+    @Test
+    public void testLayerCountIsCapped() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            SeriesLayerCompositor compositor = new SeriesLayerCompositor(executor, 1);
+            Deencapsulation.setField(plot.getGraphWidget(), "seriesLayerCompositor", compositor);
+            draw();
+
+            // both line series are rasterized, one after the other, into the same layer:
+            assertEquals(1, compositor.getLayerCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMaxLayersMustBePositive() throws Exception {
+        new SeriesLayerCompositor(Executors.newSingleThreadExecutor(), 0);
+    }
+
+    @Test
+    public void testDisable() throws Exception {
+        plot.setParallelSeriesRenderingEnabled(true);
+        draw();
+        plot.setParallelSeriesRenderingEnabled(false);
+        assertFalse(plot.isParallelSeriesRenderingEnabled());
+        draw();
+        assertTrue(plot.getGraphWidget().getSeriesLayerCompositor() == null);
+    }
+}
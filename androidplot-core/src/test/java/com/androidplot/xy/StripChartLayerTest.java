@@ -0,0 +1,101 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot.xy;
+
+import android.graphics.Canvas;
+import android.graphics.RectF;
+import com.androidplot.Plot;
+import com.androidplot.test.AndroidplotTest;
+import mockit.Deencapsulation;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class StripChartLayerTest extends AndroidplotTest {
+
+    XYPlot plot;
+    StripChartLayer layer;
+
+    @Before
+    public void setUp() throws Exception {
+        plot = new XYPlot(getContext(), "Test", Plot.RenderMode.USE_MAIN_THREAD);
+        plot.addSeries(new SimpleXYSeries(Arrays.asList(0, 10, 5, 20, 15, 30, 25, 40),
+                SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "s1"), new LineAndPointFormatter());
+        plot.setRangeBoundaries(0, 40, BoundaryMode.FIXED);
+        plot.setDomainBoundaries(0, 100, BoundaryMode.FIXED);
+        plot.setDataRenderMode(DataRenderMode.STRIP_CHART);
+        layer = plot.getGraphWidget().getStripChartLayer();
+        Deencapsulation.invoke(plot, "onSizeChanged", 400, 300, 0, 0);
+    }
+
+    private void draw() {
+        Deencapsulation.invoke(plot, "onDraw", new Canvas());
+    }
+
+    @Test
+    public void testScrollRendersOnlyExposedStrip() throws Exception {
+        draw();
+        assertTrue(layer.isLastDrawFull());
+        RectF layerRect = plot.getGraphWidget().getGridDimensions().marginatedRect;
+        assertEquals(layerRect.width(), layer.getDirtyRect().width());
+
+        // scroll by 10% of the domain:
+        plot.setDomainBoundaries(10, 110, BoundaryMode.FIXED);
+        draw();
+        assertFalse(layer.isLastDrawFull());
+        RectF dirty = layer.getDirtyRect();
+        assertEquals(layerRect.right, dirty.right);
+        assertTrue(dirty.width() < layerRect.width() / 2);
+    }
+
+    @Test
+    public void testRangeChangeForcesFullRender() throws Exception {
+        draw();
+        plot.setDomainBoundaries(10, 110, BoundaryMode.FIXED);
+        plot.setRangeBoundaries(0, 50, BoundaryMode.FIXED);
+        draw();
+        assertTrue(layer.isLastDrawFull());
+    }
+
+    @Test
+    public void testDomainWidthChangeForcesFullRender() throws Exception {
+        draw();
+        plot.setDomainBoundaries(10, 200, BoundaryMode.FIXED);
+        draw();
+        assertTrue(layer.isLastDrawFull());
+    }
+
+    @Test
+    public void testSeriesChangeForcesFullRender() throws Exception {
+        draw();
+        plot.addSeries(new SimpleXYSeries(Arrays.asList(1, 2, 3),
+                SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "s2"), new LineAndPointFormatter());
+        draw();
+        assertTrue(layer.isLastDrawFull());
+
+        draw();
+        assertFalse(layer.isLastDrawFull());
+        plot.getGraphWidget().invalidateData();
+        draw();
+        assertTrue(layer.isLastDrawFull());
+    }
+}
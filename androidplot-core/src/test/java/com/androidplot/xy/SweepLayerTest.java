@@ -0,0 +1,136 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+package com.androidplot.xy;
+
+import android.graphics.Canvas;
+import android.graphics.RectF;
+import com.androidplot.Plot;
+import com.androidplot.test.AndroidplotTest;
+import mockit.Deencapsulation;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class SweepLayerTest extends AndroidplotTest {
+
+    private static final int CAPACITY = 100;
+    private static final float ERASE_BAND = 10;
+
+    XYPlot plot;
+    SweepSeries series;
+    SweepLayer layer;
+    RectF layerRect;
+    RectF dataRect;
+
+    @Before
+    public void setUp() throws Exception {
+        plot = new XYPlot(getContext(), "Test", Plot.RenderMode.USE_MAIN_THREAD);
+        series = new SweepSeries("s1", CAPACITY);
+        plot.addSeries(series, new LineAndPointFormatter());
+        plot.setRangeBoundaries(-10, 10, BoundaryMode.FIXED);
+        plot.setDomainBoundaries(0, CAPACITY - 1, BoundaryMode.FIXED);
+        plot.setDataRenderMode(DataRenderMode.SWEEP);
+        plot.getGraphWidget().setSweepEraseBandWidth(ERASE_BAND);
+        layer = plot.getGraphWidget().getSweepLayer();
+        Deencapsulation.invoke(plot, "onSizeChanged", 400, 300, 0, 0);
+        addSamples(10);
+        draw();
+        layerRect = plot.getGraphWidget().getGridDimensions().marginatedRect;
+        dataRect = plot.getGraphWidget().getGridDimensions().paddedRect;
+    }
+
+    private void draw() {
+        Deencapsulation.invoke(plot, "onDraw", new Canvas());
+    }
+
+    private void addSamples(int count) {
+        for (int i = 0; i < count; i++) {
+            series.addSample(Math.sin(i));
+        }
+    }
+
+    private float toPix(int position) {
+        return dataRect.left + position * dataRect.width() / (CAPACITY - 1);
+    }
+
+    @Test
+    public void testFirstDrawIsFull() throws Exception {
+        List<RectF> dirty = layer.getDirtyRects();
+        assertEquals(1, dirty.size());
+        assertEquals(layerRect.left, dirty.get(0).left);
+        assertEquals(layerRect.right, dirty.get(0).right);
+    }
+
+    @Test
+    public void testOnlyNewColumnsAreRendered() throws Exception {
+        addSamples(5);
+        draw();
+        List<RectF> dirty = layer.getDirtyRects();
+        assertEquals(1, dirty.size());
+
+        // from the previous cursor position to the new one plus the erase band:
+        assertEquals(toPix(9), dirty.get(0).left, 0.01f);
+        assertEquals(toPix(14) + ERASE_BAND, dirty.get(0).right, 0.01f);
+
+        // nothing new; nothing rendered:
+        draw();
+        assertEquals(0, layer.getDirtyRects().size());
+    }
+
+    @Test
+    public void testWrapAround() throws Exception {
+        addSamples(85);
+        draw();
+
+        // cursor now at position 94; advancing past the end splits the dirty area in two:
+        addSamples(10);
+        draw();
+        List<RectF> dirty = layer.getDirtyRects();
+        assertEquals(2, dirty.size());
+        assertEquals(toPix(94), dirty.get(0).left, 0.01f);
+        assertEquals(layerRect.right, dirty.get(0).right, 0.01f);
+        assertEquals(layerRect.left, dirty.get(1).left, 0.01f);
+        assertEquals(toPix(4) + ERASE_BAND, dirty.get(1).right, 0.01f);
+    }
+
+    @Test
+    public void testFullRenderWhenTooFarBehind() throws Exception {
+        addSamples(CAPACITY);
+        draw();
+        List<RectF> dirty = layer.getDirtyRects();
+        assertEquals(1, dirty.size());
+        assertEquals(layerRect.width(), dirty.get(0).width());
+
+        plot.setRangeBoundaries(-20, 20, BoundaryMode.FIXED);
+        addSamples(1);
+        draw();
+        assertEquals(layerRect.width(), layer.getDirtyRects().get(0).width());
+    }
+
+    @Test
+    public void testSeriesValues() throws Exception {
+        assertEquals(CAPACITY, series.size());
+        assertEquals(9, series.getCursor());
+        assertEquals(null, series.getY(10));
+        assertTrue(series.getY(9) != null);
+        assertEquals(5, series.getX(5));
+    }
+}
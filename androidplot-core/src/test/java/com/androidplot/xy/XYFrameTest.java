@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.androidplot.xy;
+
+import android.graphics.Canvas;
+import android.graphics.RectF;
+import com.androidplot.Plot;
+import com.androidplot.test.AndroidplotTest;
+import com.androidplot.ui.SeriesAndFormatter;
+import com.androidplot.util.ValPixConverter;
+import mockit.Deencapsulation;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class XYFrameTest extends AndroidplotTest {
+
+    XYPlot plot;
+    SimpleXYSeries series;
+
+    @Before
+    public void setUp() throws Exception {
+        plot = new XYPlot(getContext(), "Test", Plot.RenderMode.USE_MAIN_THREAD);
+        series = new SimpleXYSeries(Arrays.asList(0, 10, null, 20, 15),
+                SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "s1");
+        plot.addSeries(series, new LineAndPointFormatter());
+        Deencapsulation.invoke(plot, "onSizeChanged", 400, 300, 0, 0);
+
+        // lay out the graph widget:
+        Deencapsulation.invoke(plot, "onDraw", new Canvas());
+    }
+
+    private XYFrame prepare() {
+        return Deencapsulation.invoke(plot, "prepareFrame");
+    }
+
+    @Test
+    public void testPrepareSnapshotsLineSeries() throws Exception {
+        XYFrame frame = prepare();
+        assertEquals(plot.getCalculatedMinX(), frame.minX);
+        assertEquals(plot.getCalculatedMaxY(), frame.maxY);
+
+        SeriesAndFormatter<XYSeries, XYSeriesFormatter> sf = frame.getSeriesAndFormatters().get(0);
+        assertTrue(sf.getSeries() instanceof XYSeriesSnapshot);
+        XYSeriesSnapshot snapshot = (XYSeriesSnapshot) sf.getSeries();
+        assertEquals(series.size(), snapshot.size());
+
+        // changes to the live series are not visible to the snapshot:
+        series.setY(100, 0);
+        assertEquals(0d, snapshot.getY(0).doubleValue());
+    }
+
+    @Test
+    public void testPreparedPixelsMatchConversion() throws Exception {
+        XYFrame frame = prepare();
+        RectF plotArea = plot.getGraphWidget().getGridDimensions().paddedRect;
+        XYSeriesSnapshot snapshot = (XYSeriesSnapshot) frame.getSeriesAndFormatters().get(0).getSeries();
+        assertTrue(snapshot.hasPixelsFor(plotArea));
+        for(int i = 0; i < series.size(); i++) {
+            if(series.getY(i) == null) {
+                assertTrue(Float.isNaN(snapshot.getPixelX(i)));
+                continue;
+            }
+            android.graphics.PointF expected = ValPixConverter.valToPix(series.getX(i), series.getY(i),
+                    plotArea, frame.minX, frame.maxX, frame.minY, frame.maxY);
+            assertEquals(expected.x, snapshot.getPixelX(i));
+            assertEquals(expected.y, snapshot.getPixelY(i));
+        }
+        assertFalse(snapshot.hasPixelsFor(new RectF(0, 0, 1, 1)));
+    }
+
+    @Test
+    public void testDrawingFrameDoesNotDisturbCalculatedBounds() throws Exception {
+        plot.setRangeBoundaries(0, 50, BoundaryMode.FIXED);
+        XYFrame frame = prepare();
+
+        plot.setRangeBoundaries(0, 100, BoundaryMode.FIXED);
+        plot.calculateMinMaxVals();
+        Deencapsulation.invoke(plot, "renderOnCanvas", new Canvas(), frame);
+        assertEquals(100d, plot.getCalculatedMaxY().doubleValue());
+    }
+}
@@ -24,7 +24,10 @@ import org.junit.After;
 import org.junit.Test;
 import org.robolectric.RuntimeEnvironment;
 import java.util.Arrays;
+import java.util.List;
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
 
 public class XYLegendWidgetTest extends AndroidplotTest {
 
@@ -60,4 +63,67 @@ public class XYLegendWidgetTest extends AndroidplotTest {
         Deencapsulation.invoke(plot, "onDraw", new Canvas());
     }
 
+    @Test
+    public void testLegendItemsAreCachedUntilContentChanges() throws Exception {
+        XYPlot plot = new XYPlot(RuntimeEnvironment.application, "Test",
+                Plot.RenderMode.USE_MAIN_THREAD);
+
+        SimpleXYSeries s1 = new SimpleXYSeries((Arrays.asList(1, 2, 3)),
+                SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "s1");
+        LineAndPointFormatter formatter = new LineAndPointFormatter(
+                Color.RED, Color.GREEN, Color.BLUE, null);
+        plot.addSeries(s1, formatter);
+
+        Deencapsulation.invoke(plot, "onSizeChanged", 100, 100, 100, 100);
+        Deencapsulation.invoke(plot, "onDraw", new Canvas());
+
+        XYLegendWidget legend = plot.getLegendWidget();
+        List items = Deencapsulation.getField(legend, "legendItems");
+        assertEquals(1, items.size());
+
+        // nothing changed; same cached items should be reused:
+        Deencapsulation.invoke(plot, "onDraw", new Canvas());
+        assertTrue(items == Deencapsulation.getField(legend, "legendItems"));
+
+        // adding a region should invalidate the cache:
+        formatter.addRegion(new RectRegion(0, 1, 0, 1, "r1"), new XYRegionFormatter(Color.RED));
+        Deencapsulation.invoke(plot, "onDraw", new Canvas());
+        items = Deencapsulation.getField(legend, "legendItems");
+        assertEquals(2, items.size());
+
+        // as should adding a series:
+        SimpleXYSeries s2 = new SimpleXYSeries((Arrays.asList(1, 2, 3)),
+                SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "s2");
+        plot.addSeries(s2, new LineAndPointFormatter(
+                Color.RED, Color.GREEN, Color.BLUE, null));
+        Deencapsulation.invoke(plot, "onDraw", new Canvas());
+        items = Deencapsulation.getField(legend, "legendItems");
+        assertEquals(3, items.size());
+
+        legend.invalidate();
+        assertNull(Deencapsulation.getField(legend, "legendItems"));
+    }
+
+    @Test
+    public void testRelabeledRegionInvalidatesLegend() throws Exception {
+        XYPlot plot = new XYPlot(RuntimeEnvironment.application, "Test",
+                Plot.RenderMode.USE_MAIN_THREAD);
+        LineAndPointFormatter formatter = new LineAndPointFormatter(
+                Color.RED, Color.GREEN, Color.BLUE, null);
+        plot.addSeries(new SimpleXYSeries((Arrays.asList(1, 2, 3)),
+                SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "s1"), formatter);
+        RectRegion region = new RectRegion(0, 1, 0, 1, "before");
+        formatter.addRegion(region, new XYRegionFormatter(Color.RED));
+
+        Deencapsulation.invoke(plot, "onSizeChanged", 100, 100, 100, 100);
+        Deencapsulation.invoke(plot, "onDraw", new Canvas());
+        XYLegendWidget legend = plot.getLegendWidget();
+        List items = Deencapsulation.getField(legend, "legendItems");
+        assertEquals("before", Deencapsulation.getField(items.get(1), "label"));
+
+        region.setLabel("after");
+        Deencapsulation.invoke(plot, "onDraw", new Canvas());
+        items = Deencapsulation.getField(legend, "legendItems");
+        assertEquals("after", Deencapsulation.getField(items.get(1), "label"));
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2016 AndroidPlot.com
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+
+package com.androidplot.xy;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.RectF;
+import com.androidplot.PlotRenderer;
+import com.androidplot.test.AndroidplotTest;
+import com.androidplot.test.ShadowPicture;
+import com.androidplot.util.DisplayDimensions;
+import org.junit.Before;
+import org.junit.Test;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static junit.framework.Assert.assertEquals;
+
+@Config(shadows = ShadowPicture.class)
+public class XYPlotDisplayListTest extends AndroidplotTest {
+
+    static class CountingPlot extends XYPlot {
+        int recordings;
+
+        CountingPlot(Context context) {
+            super(context, "test");
+        }
+
+        @Override
+        protected void onDisplayListRecorded() {
+            super.onDisplayListRecorded();
+            recordings++;
+        }
+
+        void render(Canvas canvas) {
+            renderOnCanvas(canvas);
+        }
+    }
+
+    CountingPlot plot;
+    SimpleXYSeries series;
+    Canvas canvas;
+
+    @Before
+    public void setUp() throws Exception {
+        plot = new CountingPlot(getContext());
+        series = new SimpleXYSeries(new ArrayList<Number>(Arrays.asList(1, 4, 2, 8)),
+                SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "s1");
+        plot.addSeries(series, new LineAndPointFormatter());
+        plot.setDisplayListEnabled(true);
+
+        // lays the plot out and records the first display list:
+        PlotRenderer.render(plot, 200, 100, null);
+        assertEquals(1, plot.recordings);
+        canvas = new Canvas(Bitmap.createBitmap(200, 100, Bitmap.Config.ARGB_8888));
+    }
+
+    @Test
+    public void testUnchangedInputsAreReplayed() throws Exception {
+        plot.render(canvas);
+        plot.render(canvas);
+        assertEquals(1, plot.recordings);
+    }
+
+    @Test
+    public void testOverlayRedrawIsReplayed() throws Exception {
+        plot.setCursorPosition(10, 10);
+        plot.redrawOverlays();
+        plot.render(canvas);
+        assertEquals(1, plot.recordings);
+    }
+
+    @Test
+    public void testSizeChangeRecords() throws Exception {
+        RectF rect = new RectF(0, 0, 300, 100);
+        plot.layout(new DisplayDimensions(rect, rect, rect));
+        plot.render(canvas);
+        assertEquals(2, plot.recordings);
+    }
+
+    @Test
+    public void testBoundsChangeRecords() throws Exception {
+        plot.setDomainBoundaries(0, 100, BoundaryMode.FIXED);
+        plot.render(canvas);
+        assertEquals(2, plot.recordings);
+        plot.render(canvas);
+        assertEquals(2, plot.recordings);
+    }
+
+    @Test
+    public void testSeriesChangeRecords() throws Exception {
+        plot.addSeries(new SimpleXYSeries(Arrays.asList(3, 3),
+                SimpleXYSeries.ArrayFormat.Y_VALS_ONLY, "s2"), new LineAndPointFormatter());
+        plot.render(canvas);
+        assertEquals(2, plot.recordings);
+    }
+
+    @Test
+    public void testDataChangeRecords() throws Exception {
+        // with fixed boundaries a data change leaves every other input untouched:
+        plot.setDomainBoundaries(0, 3, BoundaryMode.FIXED);
+        plot.setRangeBoundaries(0, 10, BoundaryMode.FIXED);
+        plot.render(canvas);
+        assertEquals(2, plot.recordings);
+
+        series.setY(5, 2);
+        plot.redraw();
+        plot.render(canvas);
+        assertEquals(3, plot.recordings);
+    }
+
+    @Test
+    public void testHeadlessRenderRecords() throws Exception {
+        series.setY(5, 2);
+        PlotRenderer.render(plot, 200, 100, null);
+        assertEquals(2, plot.recordings);
+    }
+}
@@ -28,8 +28,10 @@ import org.robolectric.RuntimeEnvironment;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.fail;
 
 public class XYPlotTest extends AndroidplotTest {
 
@@ -452,4 +454,60 @@ public class XYPlotTest extends AndroidplotTest {
         assertEquals(Color.parseColor(param3), plot.getBackgroundPaint().getColor());
         assertEquals(Color.parseColor(param3), plot.getGraphWidget().getDomainTickLabelPaint().getColor());
     }
+
+    @Test(timeout = 5000)
+    public void testBoundariesDoNotWaitForRender() throws Exception {
+        plot.addSeries(series1, new LineAndPointFormatter());
+        final CountDownLatch locked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        Thread renderer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                // simulates a render in progress:
+                synchronized (plot) {
+                    locked.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException ignored) {}
+                }
+            }
+        });
+        renderer.start();
+        locked.await();
+        try {
+            plot.setDomainBoundaries(2, 8, BoundaryMode.FIXED);
+            plot.setRangeTopMax(50);
+        } finally {
+            release.countDown();
+        }
+        renderer.join();
+
+        plot.calculateMinMaxVals();
+        assertEquals(2, plot.getCalculatedMinX().intValue());
+        assertEquals(8, plot.getCalculatedMaxX().intValue());
+        assertEquals(50, plot.getCalculatedMaxY().intValue());
+        assertEquals(50, plot.getRangeTopMax().intValue());
+    }
+
+    @Test
+    public void testFailedEditIsNotPublished() throws Exception {
+        plot.addSeries(series1, new LineAndPointFormatter());
+        plot.setDomainBoundaries(2, 8, BoundaryMode.FIXED);
+        try {
+            // fails after switching to the origin framing model, since FIXED requires an extent:
+            plot.centerOnDomainOrigin(5, null, BoundaryMode.FIXED);
+            fail("Expected NullPointerException");
+        } catch (NullPointerException expected) {}
+
+        plot.calculateMinMaxVals();
+        assertEquals(2, plot.getCalculatedMinX().intValue());
+        assertEquals(8, plot.getCalculatedMaxX().intValue());
+        assertEquals(2, plot.getDomainOrigin().intValue());
+
+        // subsequent edits start from the last published configuration:
+        plot.setRangeTopMax(50);
+        plot.calculateMinMaxVals();
+        assertEquals(2, plot.getCalculatedMinX().intValue());
+        assertEquals(8, plot.getCalculatedMaxX().intValue());
+    }
 }
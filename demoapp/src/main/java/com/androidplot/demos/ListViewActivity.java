@@ -18,15 +18,17 @@ package com.androidplot.demos;
 
 import android.app.Activity;
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Color;
 import android.os.Bundle;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ArrayAdapter;
+import android.widget.ImageView;
 import android.widget.ListView;
 import com.androidplot.Plot;
-import com.androidplot.Series;
+import com.androidplot.PlotThumbnailCache;
 import com.androidplot.ui.SeriesAndFormatter;
 import com.androidplot.util.PixelUtils;
 import com.androidplot.xy.*;
@@ -35,11 +37,17 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
+/**
+ * Displays a plot per row.  Rows are plain ImageViews showing images rendered by a single
+ * offscreen plot and kept in a {@link PlotThumbnailCache}, so scrolling never re-renders.
+ */
 public class ListViewActivity extends Activity {
-    private static final int NUM_PLOTS = 10;
+    private static final int NUM_PLOTS = 100;
+    private static final long THUMBNAIL_CACHE_BYTES = 32 * 1024 * 1024;
     private static final int NUM_POINTS_PER_SERIES = 10;
     private static final int NUM_SERIES_PER_PLOT = 5;
     private ListView lv;
+    private PlotThumbnailCache<List<SeriesAndFormatter<XYSeries, LineAndPointFormatter>>> thumbnails;
 
     private List<List<SeriesAndFormatter<XYSeries, LineAndPointFormatter>>> seriesData = new ArrayList<>(NUM_PLOTS);
 
@@ -49,7 +57,35 @@ public class ListViewActivity extends Activity {
         PixelUtils.init(this);
         generateData();
         lv = (ListView) findViewById(R.id.listView1);
-        lv.setAdapter(new MyViewAdapter(getApplicationContext(), R.layout.listview_example_item, null));
+
+        // the offscreen plot used to render every row; styled by the same xml as a live row would be:
+        XYPlot plot = (XYPlot) LayoutInflater.from(this)
+                .inflate(R.layout.listview_example_item, null).findViewById(R.id.xyplot);
+        thumbnails = new PlotThumbnailCache<>(plot,
+                new PlotThumbnailCache.Binder<List<SeriesAndFormatter<XYSeries, LineAndPointFormatter>>>() {
+                    @Override
+                    public void bind(Plot plot,
+                                     List<SeriesAndFormatter<XYSeries, LineAndPointFormatter>> seriesList) {
+                        plot.clear();
+                        plot.setTitle("plot" + seriesData.indexOf(seriesList));
+                        for (SeriesAndFormatter<XYSeries, LineAndPointFormatter> sf : seriesList) {
+                            plot.addSeries(sf.getSeries(), sf.getFormatter());
+                        }
+                    }
+                }, THUMBNAIL_CACHE_BYTES);
+        thumbnails.setListener(
+                new PlotThumbnailCache.Listener<List<SeriesAndFormatter<XYSeries, LineAndPointFormatter>>>() {
+                    @Override
+                    public void onThumbnailReady(
+                            List<SeriesAndFormatter<XYSeries, LineAndPointFormatter>> seriesList, Bitmap bitmap) {
+                        // update the row currently showing this data, if it is still visible:
+                        View row = lv.findViewWithTag(seriesList);
+                        if (row != null) {
+                            ((ImageView) row.findViewById(R.id.thumbnail)).setImageBitmap(bitmap);
+                        }
+                    }
+                });
+        lv.setAdapter(new MyViewAdapter(getApplicationContext(), R.layout.listview_example_thumbnail, null));
     }
 
     protected void generateData() {
@@ -107,18 +143,16 @@ public class ListViewActivity extends Activity {
 
             View v = convertView;
             if (v == null) {
-                v = inf.inflate(R.layout.listview_example_item, parent, false);
+                v = inf.inflate(R.layout.listview_example_thumbnail, parent, false);
             }
 
-            Plot p = (XYPlot) v.findViewById(R.id.xyplot);
-            p.clear();
-            p.setTitle("plot" + pos);
-
             List<SeriesAndFormatter<XYSeries, LineAndPointFormatter>> thisSeriesList = seriesData.get(pos);
-            for(SeriesAndFormatter<XYSeries, LineAndPointFormatter> sf : thisSeriesList) {
-                p.addSeries(sf.getSeries(), sf.getFormatter());
-            }
-            p.redraw();
+            v.setTag(thisSeriesList);
+
+            // the data never changes so its version is always 0:
+            Bitmap bitmap = thumbnails.get(thisSeriesList, 0, getResources().getDisplayMetrics().widthPixels,
+                    getResources().getDimensionPixelSize(R.dimen.listview_example_row_height));
+            ((ImageView) v.findViewById(R.id.thumbnail)).setImageBitmap(bitmap);
             return v;
         }
     }
@@ -20,9 +20,9 @@ import android.appwidget.AppWidgetManager;
 import android.appwidget.AppWidgetProvider;
 import android.content.Context;
 import android.graphics.Bitmap;
-import android.graphics.Canvas;
 import android.graphics.Color;
 import android.widget.RemoteViews;
+import com.androidplot.PlotRenderer;
 import com.androidplot.demos.R;
 import com.androidplot.ui.*;
 import com.androidplot.util.PixelUtils;
@@ -57,9 +57,6 @@ public class DemoAppWidgetProvider extends AppWidgetProvider {
 
             plot.getLayoutManager().moveToTop(plot.getTitleWidget());
 
-            plot.measure(w, h);
-            plot.layout(0, 0, w, h);
-
             /*plot.getGraphWidget().setMarginBottom(PixelUtils.dpToPix(40));
             plot.getGraphWidget().setMarginLeft(PixelUtils.dpToPix(80));
             plot.getGraphWidget().setPaddingLeft(PixelUtils.dpToPix(80));
@@ -108,8 +105,7 @@ public class DemoAppWidgetProvider extends AppWidgetProvider {
 
             RemoteViews rv = new RemoteViews(context.getPackageName(), R.layout.demo_app_widget);
 
-            Bitmap bitmap = Bitmap.createBitmap(w, h, Bitmap.Config.ARGB_8888);
-            plot.draw(new Canvas(bitmap));
+            Bitmap bitmap = PlotRenderer.render(plot, w, h, null);
             rv.setImageViewBitmap(R.id.imgView, bitmap);
             appWidgetManager.updateAppWidget(widgetId, rv);
         }